@@ -0,0 +1,159 @@
+package com.seethrough.api.ingredient.infrastructure.index;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.pgvector.PGvector;
+
+/**
+ * IngredientVectorIndexBenchmark 와 같은 데이터로 pgvector 코사인 거리 top-k 조회의 지연 시간 측정
+ * 임시 테이블에 schema.sql 과 같은 HNSW(vector_cosine_ops) 인덱스를 만들고, 앱처럼 hnsw.ef_search 를 설정해 조회합니다.
+ * 행 수가 적으면 플래너가 순차 탐색을 고를 수 있으므로 순차 탐색을 끄고, 실행 계획이 인덱스를 쓰는지 확인합니다.
+ * jmh.jdbc.url 이 지정된 경우에만 실행됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IngredientPgvectorBenchmark {
+
+	private static final String CREATE_TABLE_SQL =
+		"CREATE TEMP TABLE bench_ingredient_embeddings (ingredient_id varchar(36) PRIMARY KEY, embedding_vector vector(" +
+			IngredientVectorIndexBenchmark.DIMENSION + "))";
+
+	private static final String CREATE_INDEX_SQL =
+		"CREATE INDEX ON bench_ingredient_embeddings USING HNSW (embedding_vector vector_cosine_ops)";
+
+	// 앱(IngredientLogRepositoryImpl)과 같은 방식으로 설정하되, 벤치마크 연결 전체에 적용
+	private static final String SET_EF_SEARCH_SQL = "SELECT set_config('hnsw.ef_search', ?, false)";
+
+	private static final String INSERT_SQL =
+		"INSERT INTO bench_ingredient_embeddings (ingredient_id, embedding_vector) VALUES (?, ?)";
+
+	// 유사 식재료 조회와 같은 cosine 거리 연산자(<=>) 사용
+	private static final String SEARCH_SQL =
+		"SELECT ingredient_id, 1 - (embedding_vector <=> ?) AS similarity FROM bench_ingredient_embeddings " +
+			"ORDER BY embedding_vector <=> ? LIMIT ?";
+
+	@Param({"100", "500", "2000"})
+	private int size;
+
+	@Param({"10"})
+	private int k;
+
+	// 40 은 요청에 ef_search 가 없을 때 앱이 쓰는 pgvector 기본값
+	@Param({"40", "100"})
+	private int efSearch;
+
+	private Connection connection;
+	private PreparedStatement searchStatement;
+	private PGvector query;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		String url = System.getProperty("jmh.jdbc.url", "");
+		if (url.isBlank()) {
+			throw new IllegalStateException("jmh.jdbc.url 이 지정되지 않았습니다.");
+		}
+
+		connection = DriverManager.getConnection(url,
+			System.getProperty("jmh.jdbc.username"), System.getProperty("jmh.jdbc.password"));
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(CREATE_TABLE_SQL);
+		}
+
+		Random random = new Random(42);
+
+		try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+			for (Map.Entry<UUID, float[]> entry : IngredientVectorIndexBenchmark.randomEmbeddings(random, size).entrySet()) {
+				statement.setString(1, entry.getKey().toString());
+				statement.setObject(2, new PGvector(entry.getValue()));
+				statement.addBatch();
+			}
+
+			statement.executeBatch();
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(CREATE_INDEX_SQL);
+			statement.execute("ANALYZE bench_ingredient_embeddings");
+			statement.execute("SET enable_seqscan = off");
+		}
+
+		try (PreparedStatement statement = connection.prepareStatement(SET_EF_SEARCH_SQL)) {
+			statement.setString(1, String.valueOf(efSearch));
+			statement.execute();
+		}
+
+		query = new PGvector(IngredientVectorIndexBenchmark.randomVector(random));
+
+		verifyIndexScan();
+
+		searchStatement = connection.prepareStatement(SEARCH_SQL);
+	}
+
+	private void verifyIndexScan() throws SQLException {
+		StringBuilder plan = new StringBuilder();
+
+		try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + SEARCH_SQL)) {
+			statement.setObject(1, query);
+			statement.setObject(2, query);
+			statement.setInt(3, k);
+
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					plan.append(resultSet.getString(1)).append('\n');
+				}
+			}
+		}
+
+		if (!plan.toString().contains("Index Scan")) {
+			throw new IllegalStateException("HNSW 인덱스를 사용하지 않는 실행 계획입니다:\n" + plan);
+		}
+	}
+
+	@Benchmark
+	public List<String> search() throws SQLException {
+		searchStatement.setObject(1, query);
+		searchStatement.setObject(2, query);
+		searchStatement.setInt(3, k);
+
+		List<String> result = new ArrayList<>(k);
+
+		try (ResultSet resultSet = searchStatement.executeQuery()) {
+			while (resultSet.next()) {
+				result.add(resultSet.getString(1));
+			}
+		}
+
+		return result;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		if (connection != null) {
+			connection.close();
+		}
+	}
+}
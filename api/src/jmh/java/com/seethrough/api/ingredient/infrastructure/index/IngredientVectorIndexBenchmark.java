@@ -0,0 +1,82 @@
+package com.seethrough.api.ingredient.infrastructure.index;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * IngredientVectorIndex 전수 비교 검색의 지연 시간 측정
+ * 같은 조건의 pgvector 조회는 IngredientPgvectorBenchmark 에서 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IngredientVectorIndexBenchmark {
+
+	static final int DIMENSION = 1536;
+
+	@Param({"100", "500", "2000"})
+	private int size;
+
+	@Param({"10"})
+	private int k;
+
+	@Param({"false", "true"})
+	private boolean quantization;
+
+	private IngredientVectorIndex index;
+	private float[] query;
+
+	@Setup(Level.Trial)
+	public void setUp() throws ReflectiveOperationException {
+		Random random = new Random(42);
+
+		index = new IngredientVectorIndex();
+
+		Field quantizationField = IngredientVectorIndex.class.getDeclaredField("quantization");
+		quantizationField.setAccessible(true);
+		quantizationField.setBoolean(index, quantization);
+
+		index.putAll(randomEmbeddings(random, size));
+		query = randomVector(random);
+	}
+
+	@Benchmark
+	public List<IngredientVectorIndex.Neighbor> search() {
+		return index.search(query, k, null);
+	}
+
+	static Map<UUID, float[]> randomEmbeddings(Random random, int size) {
+		Map<UUID, float[]> embeddings = new HashMap<>(size * 2);
+
+		for (int i = 0; i < size; i++) {
+			embeddings.put(new UUID(random.nextLong(), random.nextLong()), randomVector(random));
+		}
+
+		return embeddings;
+	}
+
+	static float[] randomVector(Random random) {
+		float[] vector = new float[DIMENSION];
+
+		for (int i = 0; i < DIMENSION; i++) {
+			vector[i] = (float)random.nextGaussian();
+		}
+
+		return vector;
+	}
+}
@@ -18,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AlertEventHandler {
 
 	private final AlertService alertService;
+	private final MemberAlertCoalescer memberAlertCoalescer;
 
 	@Async
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -27,11 +28,10 @@ public class AlertEventHandler {
 		alertService.createAlertByIngredient(event.getIngredients());
 	}
 
-	@Async
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleAlert(CreateAlertByMemberEvent event) {
-		log.info("[AlertEventHandler] 구성원 수정 시, 경고 생성 이벤트 발행");
+		log.info("[AlertEventHandler] 구성원 수정 시, 경고 재계산 예약");
 
-		alertService.createAlertByMember(event.getMemberId());
+		memberAlertCoalescer.submit(event);
 	}
 }
@@ -0,0 +1,61 @@
+package com.seethrough.api.alert.application.event;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.seethrough.api.alert.domain.AlertRepository;
+import com.seethrough.api.alert.infrastructure.cache.AlertLookupCache;
+import com.seethrough.api.ingredient.domain.event.IngredientOutboundEvent;
+import com.seethrough.api.member.domain.event.MemberHealthInfoChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertLookupCacheEventHandler {
+
+	private final AlertRepository alertRepository;
+	private final AlertLookupCache alertLookupCache;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadBloomFilter() {
+		rebuildBloomFilter();
+	}
+
+	// 삭제된 경고의 비트가 쌓여 오탐률이 오르지 않도록 주기적으로 다시 만듦
+	@Scheduled(initialDelayString = "${alert.lookup-cache.bloom-rebuild-interval-ms:3600000}",
+		fixedDelayString = "${alert.lookup-cache.bloom-rebuild-interval-ms:3600000}")
+	public void rebuildBloomFilter() {
+		log.info("[AlertLookupCacheEventHandler] 경고 블룸 필터 재생성 시작");
+
+		alertLookupCache.beginRebuild();
+
+		try {
+			alertLookupCache.completeRebuild(alertRepository.findAllAlertIds());
+		}
+		catch (Exception e) {
+			alertLookupCache.cancelRebuild();
+			log.warn("[AlertLookupCacheEventHandler] 경고 블룸 필터 재생성 실패: {}", e.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleCache(IngredientOutboundEvent event) {
+		log.debug("[AlertLookupCacheEventHandler] 식재료 출고로 경고 캐시 제거: {} 개의 식재료", event.getIngredientIdList().size());
+
+		alertLookupCache.evictIngredients(event.getIngredientIdList());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleCache(MemberHealthInfoChangedEvent event) {
+		log.debug("[AlertLookupCacheEventHandler] 구성원 정보 변경으로 경고 캐시 제거: memberId={}", event.getMemberId());
+
+		alertLookupCache.evictMember(event.getMemberId());
+	}
+}
@@ -0,0 +1,26 @@
+package com.seethrough.api.alert.application.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.seethrough.api.alert.infrastructure.external.llm.AlertVerdictCache;
+import com.seethrough.api.member.domain.event.MemberHealthInfoChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertVerdictCacheEventHandler {
+
+	private final AlertVerdictCache alertVerdictCache;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleInvalidation(MemberHealthInfoChangedEvent event) {
+		log.info("[AlertVerdictCacheEventHandler] 구성원 건강 정보 변경으로 판정 캐시 무효화: memberId={}", event.getMemberId());
+
+		alertVerdictCache.invalidate(event.getMemberId());
+	}
+}
@@ -0,0 +1,46 @@
+package com.seethrough.api.alert.application.event;
+
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.seethrough.api.alert.infrastructure.matcher.AllergyMatcher;
+import com.seethrough.api.member.domain.MemberRepository;
+import com.seethrough.api.member.domain.event.MemberHealthInfoChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AllergyMatcherEventHandler {
+
+	private final MemberRepository memberRepository;
+	private final AllergyMatcher allergyMatcher;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadMatcher() {
+		log.info("[AllergyMatcherEventHandler] 알레르기 사전 검사기 적재 시작");
+
+		memberRepository.findAllMembers().stream()
+			.filter(member -> member.getDeletedAt() == null)
+			.forEach(member -> allergyMatcher.update(member.getMemberId(), member.getAllergies(), member.getDiseases()));
+
+		log.info("[AllergyMatcherEventHandler] 알레르기 사전 검사기 적재 완료");
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleMatcher(MemberHealthInfoChangedEvent event) {
+		log.info("[AllergyMatcherEventHandler] 구성원 알레르기/질병 정보 변경: memberId={}", event.getMemberId());
+
+		allergyMatcher.update(
+			event.getMemberId(),
+			event.getAllergies() == null ? Set.of() : event.getAllergies(),
+			event.getDiseases() == null ? Set.of() : event.getDiseases());
+	}
+}
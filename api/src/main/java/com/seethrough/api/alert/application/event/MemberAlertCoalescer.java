@@ -0,0 +1,168 @@
+package com.seethrough.api.alert.application.event;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.seethrough.api.alert.application.service.AlertService;
+import com.seethrough.api.alert.domain.event.CreateAlertByMemberEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구성원 경고 재계산 요청을 구성원별로 모아 한 번만 실행합니다.
+ * 같은 구성원의 요청이 quiet-window-ms 안에 다시 오면 이전 예약을 취소하고 변경분을 합쳐 다시 예약하며,
+ * 합친 결과 변경이 없으면(추가 후 다시 삭제 등) 실행하지 않습니다.
+ * 같은 구성원의 재계산이 실행 중이면 끝난 뒤로 미룹니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberAlertCoalescer {
+
+	private final AlertService alertService;
+	private final TaskScheduler taskScheduler;
+	private final ThreadPoolTaskExecutor alertTaskExecutor;
+
+	@Value("${alert.member-recompute.quiet-window-ms:3000}")
+	private long quietWindowMs;
+
+	private final Map<UUID, Pending> pendingByMember = new ConcurrentHashMap<>();
+	private final Set<UUID> runningMembers = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong receivedCount = new AtomicLong();
+	private final AtomicLong coalescedCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLong executedCount = new AtomicLong();
+
+	public void submit(CreateAlertByMemberEvent event) {
+		receivedCount.incrementAndGet();
+
+		pendingByMember.compute(event.getMemberId(), (memberId, current) -> {
+			CreateAlertByMemberEvent merged = event;
+
+			if (current != null) {
+				if (current.future != null) {
+					current.future.cancel(false);
+				}
+				coalescedCount.incrementAndGet();
+				merged = merge(current.event, event);
+			}
+
+			return new Pending(merged, schedule(memberId));
+		});
+	}
+
+	private ScheduledFuture<?> schedule(UUID memberId) {
+		return taskScheduler.schedule(() -> fire(memberId), Instant.now().plusMillis(quietWindowMs));
+	}
+
+	private void fire(UUID memberId) {
+		// add 가 실패하면 같은 구성원의 재계산이 실행 중이므로 이전 예약을 취소하고 끝난 뒤로 다시 예약
+		if (!runningMembers.add(memberId)) {
+			pendingByMember.computeIfPresent(memberId, (id, current) -> {
+				if (current.future != null) {
+					current.future.cancel(false);
+				}
+				return new Pending(current.event, schedule(id));
+			});
+			return;
+		}
+
+		Pending pending = pendingByMember.remove(memberId);
+
+		if (pending == null) {
+			runningMembers.remove(memberId);
+			return;
+		}
+
+		if (isEmpty(pending.event)) {
+			runningMembers.remove(memberId);
+			droppedCount.incrementAndGet();
+			logCounters(memberId, "변경 없음, 생략");
+			return;
+		}
+
+		try {
+			alertTaskExecutor.execute(() -> {
+				try {
+					alertService.updateAlertByMember(pending.event);
+				}
+				catch (Exception e) {
+					log.error("[MemberAlertCoalescer] 구성원 경고 재계산 실패: memberId={}", memberId, e);
+				}
+				finally {
+					runningMembers.remove(memberId);
+				}
+			});
+
+			executedCount.incrementAndGet();
+			logCounters(memberId, "실행");
+		}
+		catch (RejectedExecutionException e) {
+			runningMembers.remove(memberId);
+			log.warn("[MemberAlertCoalescer] 실행기 포화로 재계산을 다시 예약합니다: memberId={}", memberId);
+
+			// 그 사이 새 요청이 들어왔다면 그 예약에 합치고, 아니면 다시 예약
+			pendingByMember.merge(memberId, new Pending(pending.event, null), (current, requeued) ->
+				new Pending(merge(requeued.event, current.event), current.future));
+			pendingByMember.computeIfPresent(memberId, (id, current) ->
+				current.future == null ? new Pending(current.event, schedule(id)) : current);
+		}
+	}
+
+	private void logCounters(UUID memberId, String result) {
+		log.info("[MemberAlertCoalescer] 구성원 경고 재계산 {}: memberId={}, 누적 수신 {}, 병합 {}, 생략 {}, 실행 {}",
+			result, memberId, receivedCount.get(), coalescedCount.get(), droppedCount.get(), executedCount.get());
+	}
+
+	static CreateAlertByMemberEvent merge(CreateAlertByMemberEvent previous, CreateAlertByMemberEvent next) {
+		return CreateAlertByMemberEvent.builder()
+			.memberId(previous.getMemberId())
+			.addedAllergies(netAdded(previous.getAddedAllergies(), previous.getRemovedAllergies(), next.getAddedAllergies(), next.getRemovedAllergies()))
+			.removedAllergies(netAdded(previous.getRemovedAllergies(), previous.getAddedAllergies(), next.getRemovedAllergies(), next.getAddedAllergies()))
+			.addedDiseases(netAdded(previous.getAddedDiseases(), previous.getRemovedDiseases(), next.getAddedDiseases(), next.getRemovedDiseases()))
+			.removedDiseases(netAdded(previous.getRemovedDiseases(), previous.getAddedDiseases(), next.getRemovedDiseases(), next.getAddedDiseases()))
+			.ageChanged(previous.isAgeChanged() || next.isAgeChanged())
+			.build();
+	}
+
+	/**
+	 * 두 번의 변경을 이어 붙였을 때 최종적으로 추가된 항목 (앞에서 추가 후 뒤에서 삭제된 항목은 제외)
+	 */
+	static Set<String> netAdded(Set<String> previousAdded, Set<String> previousRemoved, Set<String> nextAdded, Set<String> nextRemoved) {
+		Set<String> result = new HashSet<>(previousAdded);
+		result.removeAll(nextRemoved);
+
+		nextAdded.stream()
+			.filter(item -> !previousRemoved.contains(item))
+			.forEach(result::add);
+
+		return Set.copyOf(result);
+	}
+
+	static boolean isEmpty(CreateAlertByMemberEvent event) {
+		return event.getAddedAllergies().isEmpty() && event.getRemovedAllergies().isEmpty()
+			&& event.getAddedDiseases().isEmpty() && event.getRemovedDiseases().isEmpty()
+			&& !event.isAgeChanged();
+	}
+
+	@AllArgsConstructor
+	private static class Pending {
+		private final CreateAlertByMemberEvent event;
+		private final ScheduledFuture<?> future;
+	}
+}
@@ -0,0 +1,33 @@
+package com.seethrough.api.alert.application.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.seethrough.api.alert.domain.AlertMatrixEntry;
+import com.seethrough.api.alert.infrastructure.cache.AlertLookupCache;
+import com.seethrough.api.alert.presentation.dto.response.AlertLookupCacheStatsResponse;
+import com.seethrough.api.alert.presentation.dto.response.AlertMatrixResponse;
+
+@Component
+public class AlertDtoMapper {
+
+	public AlertMatrixResponse toMatrixResponse(AlertMatrixEntry entry) {
+		return AlertMatrixResponse.builder()
+			.memberId(entry.getMemberId().toString())
+			.ingredientId(entry.getIngredientId().toString())
+			.ingredientName(entry.getIngredientName())
+			.isDanger(entry.isDanger())
+			.comment(entry.getComment())
+			.build();
+	}
+
+	public AlertLookupCacheStatsResponse toStatsResponse(AlertLookupCache.Stats stats) {
+		return AlertLookupCacheStatsResponse.builder()
+			.lookupCount(stats.getLookupCount())
+			.bloomNegativeCount(stats.getBloomNegativeCount())
+			.cacheHitCount(stats.getCacheHitCount())
+			.hitRate(stats.getHitRate())
+			.cacheSize(stats.getCacheSize())
+			.bloomReady(stats.isBloomReady())
+			.build();
+	}
+}
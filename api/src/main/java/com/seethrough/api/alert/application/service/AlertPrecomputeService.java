@@ -0,0 +1,140 @@
+package com.seethrough.api.alert.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seethrough.api.alert.domain.Alert;
+import com.seethrough.api.alert.domain.AlertId;
+import com.seethrough.api.alert.domain.AlertRepository;
+import com.seethrough.api.alert.infrastructure.external.llm.LlmApiAlertService;
+import com.seethrough.api.alert.infrastructure.external.llm.dto.response.AlertCommentResponse;
+import com.seethrough.api.ingredient.domain.Ingredient;
+import com.seethrough.api.member.domain.Member;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 출고 시 실시간 LLM 코멘트 요청이 없도록 (구성원, 식재료) 경고/코멘트를 미리 채우는 야간 작업입니다.
+ * 경고가 없는 쌍을 최근 로그인한 구성원, 최근 입고된 식재료 순으로 max-pairs 개까지 골라
+ * chunk-size 개씩 LLM 에 최대 concurrency 개 동시 요청하고, 묶음마다 저장합니다.
+ * 위험하지 않은 식재료도 is_danger = false 인 코멘트로 저장하며, 이후 위험 경고가 생기면 덮어씁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlertPrecomputeService {
+
+	private final AlertRepository alertRepository;
+	private final LlmApiAlertService llmApiAlertService;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManager entityManager;
+
+	@Value("${alert.precompute.max-pairs:2000}")
+	private int maxPairs;
+
+	@Value("${alert.precompute.chunk-size:50}")
+	private int chunkSize;
+
+	@Value("${alert.precompute.concurrency:2}")
+	private int concurrency;
+
+	@Value("${alert.llm.item-timeout-seconds:90}")
+	private long itemTimeoutSeconds;
+
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	@Scheduled(cron = "${alert.precompute.cron:0 0 3 * * *}")
+	public void precompute() {
+		if (!running.compareAndSet(false, true)) {
+			log.info("[AlertPrecomputeService] 이전 사전 생성 작업이 진행 중이므로 건너뜁니다.");
+			return;
+		}
+
+		long startedAt = System.currentTimeMillis();
+
+		try {
+			double coverageBefore = getCoverage();
+
+			List<AlertId> missingAlertIds = alertRepository.findMissingAlertIds(maxPairs);
+
+			log.info("[AlertPrecomputeService] 경고 사전 생성 시작: 대상 {} 쌍, 적용률 {}%", missingAlertIds.size(), String.format("%.1f", coverageBefore));
+
+			int saved = 0;
+			for (int from = 0; from < missingAlertIds.size(); from += chunkSize) {
+				saved += precompute(missingAlertIds.subList(from, Math.min(from + chunkSize, missingAlertIds.size())));
+			}
+
+			log.info("[AlertPrecomputeService] 경고 사전 생성 완료: 저장 {} / {} 쌍, 적용률 {}% -> {}%, 소요 {} ms",
+				saved, missingAlertIds.size(), String.format("%.1f", coverageBefore), String.format("%.1f", getCoverage()),
+				System.currentTimeMillis() - startedAt);
+		}
+		catch (Exception e) {
+			log.error("[AlertPrecomputeService] 경고 사전 생성 실패: 소요 {} ms", System.currentTimeMillis() - startedAt, e);
+		}
+		finally {
+			running.set(false);
+		}
+	}
+
+	private int precompute(List<AlertId> alertIds) {
+		List<Map.Entry<AlertId, AlertCommentResponse>> results = Flux.fromIterable(alertIds)
+			.flatMap(alertId -> llmApiAlertService.createComment(alertId.getMemberId(), alertId.getIngredientId())
+					.timeout(Duration.ofSeconds(itemTimeoutSeconds))
+					.map(response -> Map.entry(alertId, response))
+					.onErrorResume(e -> {
+						log.warn("[AlertPrecomputeService] 코멘트 생성 실패: alertId={}, error={}", alertId, e.getMessage());
+						return Mono.empty();
+					}),
+				concurrency)
+			.collectList()
+			.block();
+
+		if (results == null || results.isEmpty()) {
+			return 0;
+		}
+
+		Integer saved = transactionTemplate.execute(status -> {
+			List<Alert> alerts = new ArrayList<>();
+
+			for (Map.Entry<AlertId, AlertCommentResponse> result : results) {
+				AlertId alertId = result.getKey();
+				AlertCommentResponse response = result.getValue();
+
+				if (response.getComment() == null || response.getComment().isBlank()) {
+					continue;
+				}
+
+				alerts.add(Alert.builder()
+					.alertId(alertId)
+					.member(entityManager.getReference(Member.class, alertId.getMemberId()))
+					.ingredient(entityManager.getReference(Ingredient.class, alertId.getIngredientId()))
+					.comment(response.getComment())
+					// 출고 코멘트와 같은 기준 (category 1, 2 는 위험)
+					.isDanger(response.getCategory() <= 2)
+					.build());
+			}
+
+			return alertRepository.saveAllWithoutDuplicates(alerts);
+		});
+
+		return saved == null ? 0 : saved;
+	}
+
+	private double getCoverage() {
+		long pairs = alertRepository.countActiveMemberIngredientPairs();
+
+		return pairs == 0 ? 100 : alertRepository.countActiveMemberAlerts() * 100.0 / pairs;
+	}
+}
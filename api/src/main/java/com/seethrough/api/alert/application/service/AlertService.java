@@ -1,28 +1,48 @@
 package com.seethrough.api.alert.application.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.seethrough.api.alert.application.mapper.AlertDtoMapper;
 import com.seethrough.api.alert.domain.Alert;
 import com.seethrough.api.alert.domain.AlertId;
 import com.seethrough.api.alert.domain.AlertRepository;
+import com.seethrough.api.alert.domain.event.CreateAlertByMemberEvent;
+import com.seethrough.api.alert.infrastructure.cache.AlertLookupCache;
+import com.seethrough.api.alert.infrastructure.external.llm.AlertVerdictCache;
 import com.seethrough.api.alert.infrastructure.external.llm.LlmApiAlertService;
+import com.seethrough.api.alert.infrastructure.matcher.AgeGroup;
+import com.seethrough.api.alert.infrastructure.matcher.AllergyMatcher;
+import com.seethrough.api.alert.infrastructure.matcher.DiseaseIngredientIndex;
 import com.seethrough.api.alert.infrastructure.external.llm.dto.response.AlertByIngredientListResponse;
 import com.seethrough.api.alert.infrastructure.external.llm.dto.response.AlertByIngredientResponse;
 import com.seethrough.api.alert.infrastructure.external.llm.dto.response.AlertByMemberListResponse;
 import com.seethrough.api.alert.infrastructure.external.llm.dto.response.AlertByMemberResponse;
+import com.seethrough.api.alert.presentation.dto.response.AlertLookupCacheStatsResponse;
+import com.seethrough.api.alert.presentation.dto.response.AlertMatrixResponse;
 import com.seethrough.api.ingredient.domain.Ingredient;
+import com.seethrough.api.ingredient.domain.IngredientRepository;
 import com.seethrough.api.member.domain.Member;
+import com.seethrough.api.member.domain.MemberRepository;
 
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
@@ -32,25 +52,170 @@ public class AlertService {
 
 	private final AlertRepository alertRepository;
 	private final LlmApiAlertService llmApiAlertService;
+	private final AlertVerdictCache alertVerdictCache;
+	private final AlertDtoMapper alertDtoMapper;
+	private final AlertLookupCache alertLookupCache;
+	private final AllergyMatcher allergyMatcher;
+	private final DiseaseIngredientIndex diseaseIngredientIndex;
+	private final MemberRepository memberRepository;
+	private final IngredientRepository ingredientRepository;
 	private final EntityManager entityManager;
 
+	@Value("${alert.llm.concurrency:4}")
+	private int concurrency;
+
+	@Value("${alert.llm.item-timeout-seconds:90}")
+	private long itemTimeoutSeconds;
+
 	// TODO: 새로운 Transaction으로 Ingredient를 받아도 영속선 컨텍스트에 기록이 되어있지 않으므로 필요한 정보(UUID, 이름)만 받아와야 함
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void createAlertByIngredient(List<Ingredient> ingredients) {
 		log.debug("[Service] createAlertByIngredient 호출");
 
-		List<Alert> alerts = createAlertByIngredientLLM(ingredients);
+		List<Alert> alerts = new ArrayList<>();
+		List<Ingredient> llmTargets = new ArrayList<>();
+
+		List<Member> members = memberRepository.findAllMembers();
+		List<Member> diseaseMembers = members.stream()
+			.filter(member -> member.getDeletedAt() == null && !member.getDiseases().isEmpty())
+			.toList();
+
+		boolean hasAgeSensitiveMember = members.stream()
+			.anyMatch(member -> member.getDeletedAt() == null && AgeGroup.of(member.getAge()).isAgeSensitive());
+
+		for (Ingredient ingredient : ingredients) {
+			AllergyMatcher.Result result = allergyMatcher.match(ingredient.getName(), hasAgeSensitiveMember);
 
-		alertRepository.saveAllWithoutDuplicates(alerts);
+			Map<UUID, String> ruleComments = new LinkedHashMap<>();
+			result.getAllergensByMember()
+				.forEach((memberId, allergens) -> ruleComments.put(memberId, createAllergyComment(ingredient, allergens)));
+
+			for (Member member : diseaseMembers) {
+				Map<String, String> reasons = diseaseIngredientIndex.findReasons(ingredient.getName(), member.getDiseases());
+
+				if (!reasons.isEmpty()) {
+					ruleComments.merge(member.getMemberId(), createDiseaseComment(ingredient, reasons), (a, b) -> a + " " + b);
+				}
+			}
+
+			ruleComments.forEach((memberId, comment) -> alerts.add(createAlert(memberId, ingredient.getIngredientId(), comment)));
+
+			if (!result.isSkipLlm()) {
+				llmTargets.add(ingredient);
+			}
+		}
+
+		// 규칙 기반 경고를 먼저 두어 같은 (구성원, 식재료) 경고는 사전 검사 결과가 저장되도록 함
+		alerts.addAll(createAlertByIngredientLLM(llmTargets, members));
+
+		int inserted = alertRepository.saveAllWithoutDuplicates(alerts);
+
+		log.debug("[Service] 경고 저장 완료: 후보 {} 개, 신규 {} 개", alerts.size(), inserted);
 	}
 
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void createAlertByMember(UUID memberId) {
 		log.debug("[Service] createAlertByMember 호출: memberId={}", memberId);
 
-		List<Alert> alerts = createAlertByMemberLLM(memberId);
+		List<Alert> alerts = new ArrayList<>();
+
+		// 질병-식재료 인덱스에 있는 관계는 LLM 응답을 기다리지 않고 먼저 경고 후보로 둠
+		memberRepository.findByMemberId(memberId)
+			.filter(member -> member.getDeletedAt() == null && !member.getDiseases().isEmpty())
+			.ifPresent(member -> ingredientRepository.findAllIngredients().forEach(ingredient -> {
+				Map<String, String> reasons = diseaseIngredientIndex.findReasons(ingredient.getName(), member.getDiseases());
+
+				if (!reasons.isEmpty()) {
+					alerts.add(createAlert(memberId, ingredient.getIngredientId(), createDiseaseComment(ingredient, reasons)));
+				}
+			}));
+
+		createAlertByMemberLLM(memberId).ifPresent(alerts::addAll);
+
+		int inserted = alertRepository.saveAllWithoutDuplicates(alerts);
+
+		log.debug("[Service] 경고 저장 완료: 후보 {} 개, 신규 {} 개", alerts.size(), inserted);
+	}
+
+	/**
+	 * 구성원 건강 정보 변경분에 해당하는 (구성원, 식재료) 경고만 다시 계산합니다.
+	 * - 삭제된 항목: LLM 코멘트는 원인 항목을 밝히지 않으므로, 남은 건강 정보로 규칙 판정과 LLM 판정을 새로 하고
+	 *   구성원의 위험 경고를 그 결과로 교체합니다. (새 결과가 확인하지 않는 경고는 삭제)
+	 * - 추가된 항목만 있음: 모든 식재료를 추가된 항목으로만 규칙 판정하고 LLM 판정 결과를 더합니다.
+	 * - 나이 변경: LLM 판정 기준이 달라지므로 전체 재계산
+	 * LLM 이 분석에 실패하면 기존 경고는 지우지 않습니다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void updateAlertByMember(CreateAlertByMemberEvent event) {
+		log.debug("[Service] updateAlertByMember 호출: {}", event);
+
+		UUID memberId = event.getMemberId();
+
+		if (event.isAgeChanged()) {
+			alertRepository.deleteAllByMemberId(memberId);
+			createAlertByMember(memberId);
+			return;
+		}
+
+		Optional<Member> optionalMember = memberRepository.findByMemberId(memberId)
+			.filter(member -> member.getDeletedAt() == null);
+
+		if (optionalMember.isEmpty()) {
+			return;
+		}
+
+		Member member = optionalMember.get();
+
+		boolean removed = !event.getRemovedAllergies().isEmpty() || !event.getRemovedDiseases().isEmpty();
+		boolean added = !event.getAddedAllergies().isEmpty() || !event.getAddedDiseases().isEmpty();
+
+		if (!removed && !added) {
+			return;
+		}
+
+		// 삭제가 있으면 남은 건강 정보 전체, 추가만 있으면 추가된 항목으로만 규칙 판정
+		List<Alert> alerts = createRuleAlerts(memberId,
+			removed ? member.getAllergies() : event.getAddedAllergies(),
+			removed ? member.getDiseases() : event.getAddedDiseases());
+
+		// 남은 건강 정보가 없고 연령에 따른 위험도 없으면 LLM 판정도 위험 없음
+		boolean needsLlm = !member.getAllergies().isEmpty() || !member.getDiseases().isEmpty()
+			|| AgeGroup.of(member.getAge()).isAgeSensitive();
+
+		boolean llmAnalyzed = true;
+
+		if (needsLlm) {
+			Optional<List<Alert>> llmAlerts = createAlertByMemberLLM(memberId);
+			llmAlerts.ifPresent(alerts::addAll);
+			llmAnalyzed = llmAlerts.isPresent();
+
+			if (!llmAnalyzed) {
+				log.warn("[Service] 구성원 경고 LLM 분석 실패, 기존 경고를 유지합니다: memberId={}", memberId);
+			}
+		}
+
+		int deleted = 0;
+
+		if (removed && llmAnalyzed) {
+			Set<UUID> confirmedIngredientIds = alerts.stream()
+				.map(alert -> alert.getAlertId().getIngredientId())
+				.collect(Collectors.toSet());
+
+			// 새 결과가 확인한 경고도 이전 코멘트가 삭제된 항목을 언급할 수 있으므로 함께 지우고 새 코멘트로 다시 저장
+			Set<UUID> dangerIngredientIds = alertRepository.findAllByMemberId(memberId).stream()
+				.filter(Alert::isDanger)
+				.map(alert -> alert.getAlertId().getIngredientId())
+				.collect(Collectors.toSet());
+
+			deleted = alertRepository.deleteAllByMemberIdAndIngredientIds(memberId, dangerIngredientIds);
+
+			log.debug("[Service] 삭제된 건강 정보로 위험 경고 교체: memberId={}, 기존 {} 개, 재확인 {} 개",
+				memberId, dangerIngredientIds.size(), dangerIngredientIds.stream().filter(confirmedIngredientIds::contains).count());
+		}
+
+		int inserted = alertRepository.saveAllWithoutDuplicates(alerts);
 
-		alertRepository.saveAllWithoutDuplicates(alerts);
+		log.debug("[Service] 경고 재계산 완료: 삭제 {} 개, 후보 {} 개, 신규 {} 개", deleted, alerts.size(), inserted);
 	}
 
 	public Optional<Alert> getAlert(UUID memberId, UUID ingredientId) {
@@ -64,40 +229,157 @@ public class AlertService {
 		return alertRepository.findByAlertId(alertId);
 	}
 
-	private List<Alert> createAlertByIngredientLLM(List<Ingredient> ingredients) {
+	public Map<UUID, Alert> getAlerts(UUID memberId, List<UUID> ingredientIdList) {
+		log.debug("[Service] getAlerts 호출: memberId={}, {} 개의 식재료", memberId, ingredientIdList.size());
+
+		return alertRepository.findAllByMemberIdAndIngredientIds(memberId, ingredientIdList).stream()
+			.collect(Collectors.toMap(alert -> alert.getAlertId().getIngredientId(), alert -> alert));
+	}
+
+	public List<AlertMatrixResponse> getAlertMatrix(String memberId) {
+		log.debug("[Service] getAlertMatrix 호출: memberId={}", memberId);
+
+		UUID memberIdObj = memberId == null ? null : UUID.fromString(memberId);
+
+		return alertRepository.findAlertMatrix(memberIdObj).stream()
+			.map(alertDtoMapper::toMatrixResponse)
+			.toList();
+	}
+
+	public AlertLookupCacheStatsResponse getLookupCacheStats() {
+		log.debug("[Service] getLookupCacheStats 호출");
+
+		return alertDtoMapper.toStatsResponse(alertLookupCache.getStats());
+	}
+
+	private List<Alert> createRuleAlerts(UUID memberId, Set<String> allergies, Set<String> diseases) {
 		List<Alert> alerts = new ArrayList<>();
 
+		if (allergies.isEmpty() && diseases.isEmpty()) {
+			return alerts;
+		}
+
+		for (Ingredient ingredient : ingredientRepository.findAllIngredients()) {
+			Set<String> allergens = AllergyMatcher.matchAllergens(ingredient.getName(), allergies);
+			Map<String, String> reasons = diseaseIngredientIndex.findReasons(ingredient.getName(), diseases);
+
+			List<String> comments = new ArrayList<>();
+			if (!allergens.isEmpty()) {
+				comments.add(createAllergyComment(ingredient, allergens));
+			}
+			if (!reasons.isEmpty()) {
+				comments.add(createDiseaseComment(ingredient, reasons));
+			}
+
+			if (!comments.isEmpty()) {
+				alerts.add(createAlert(memberId, ingredient.getIngredientId(), String.join(" ", comments)));
+			}
+		}
+
+		return alerts;
+	}
+
+	private String createAllergyComment(Ingredient ingredient, Set<String> allergens) {
+		return String.format("%s에는 알레르기 유발 성분(%s)이 포함되어 있을 수 있어요. 섭취에 주의하세요.",
+			ingredient.getName(), String.join(", ", allergens));
+	}
+
+	private String createDiseaseComment(Ingredient ingredient, Map<String, String> reasons) {
+		return String.format("%s은(는) %s에 주의가 필요한 식재료예요. %s",
+			ingredient.getName(), String.join(", ", reasons.keySet()), String.join(" ", reasons.values()));
+	}
+
+	private Alert createAlert(UUID memberId, UUID ingredientId, String comment) {
+		return Alert.builder()
+			.alertId(AlertId.builder()
+				.memberId(memberId)
+				.ingredientId(ingredientId)
+				.build())
+			.member(entityManager.getReference(Member.class, memberId))
+			.ingredient(entityManager.getReference(Ingredient.class, ingredientId))
+			.comment(comment)
+			.build();
+	}
+
+	private List<Alert> createAlertByIngredientLLM(List<Ingredient> ingredients, List<Member> members) {
+		List<Alert> alerts = new ArrayList<>();
+		List<Ingredient> cacheMisses = new ArrayList<>();
+
+		// 모든 구성원의 판정이 캐시에 있는 식재료는 LLM 요청 없이 경고 생성
 		for (Ingredient ingredient : ingredients) {
-			AlertByIngredientListResponse listResponse = llmApiAlertService.createAlertByIngredient(ingredient.getName());
+			Map<UUID, AlertVerdictCache.Verdict> verdicts = alertVerdictCache.getAll(ingredient.getName(), members);
 
-			for (AlertByIngredientResponse response : listResponse.getRiskyMembers()) {
-				UUID memberId = UUID.fromString(response.getMemberId());
-				Member memberRef = entityManager.getReference(Member.class, memberId);
+			if (verdicts.size() < members.size()) {
+				cacheMisses.add(ingredient);
+				continue;
+			}
+
+			verdicts.forEach((memberId, verdict) -> {
+				if (verdict.isRisky()) {
+					alerts.add(createAlert(memberId, ingredient.getIngredientId(), verdict.getComment()));
+				}
+			});
+		}
+
+		if (cacheMisses.isEmpty()) {
+			return alerts;
+		}
+
+		// 식재료별 LLM 요청을 최대 concurrency 개씩 동시에 보내고, 실패/시간 초과한 식재료는 건너뜀
+		List<Map.Entry<Ingredient, AlertByIngredientListResponse>> results = Flux.fromIterable(cacheMisses)
+			.flatMap(ingredient -> llmApiAlertService.createAlertByIngredient(ingredient.getName())
+					.timeout(Duration.ofSeconds(itemTimeoutSeconds))
+					.map(listResponse -> Map.entry(ingredient, listResponse))
+					.onErrorResume(e -> {
+						log.warn("[Service] 식재료 경고 생성 실패: ingredientName={}, error={}", ingredient.getName(), e.getMessage());
+						return Mono.empty();
+					}),
+				concurrency)
+			.collectList()
+			.block();
+
+		if (results == null) {
+			return alerts;
+		}
+
+		log.debug("[Service] 식재료 경고 생성 완료: 캐시 적중 {} 개, LLM 성공 {} / {}",
+			ingredients.size() - cacheMisses.size(), results.size(), cacheMisses.size());
+
+		for (Map.Entry<Ingredient, AlertByIngredientListResponse> result : results) {
+			Ingredient ingredient = result.getKey();
+			Map<UUID, String> riskyComments = new HashMap<>();
 
-				Ingredient ingredientRef = entityManager.getReference(Ingredient.class, ingredient.getIngredientId());
+			// LLM 서버가 분석에 실패하면 빈 목록을 주므로, 위험 없음으로 캐시하지 않고 이번 입고에서만 경고를 건너뜀
+			if (!result.getValue().isAnalyzed()) {
+				log.warn("[Service] 식재료 경고 분석 실패 응답, 판정 캐시에 저장하지 않음: ingredientName={}", ingredient.getName());
+				continue;
+			}
 
-				Alert alert = Alert.builder()
-					.alertId(AlertId.builder()
-						.memberId(memberId)
-						.ingredientId(ingredient.getIngredientId())
-						.build())
-					.member(memberRef)
-					.ingredient(ingredientRef)
-					.comment(response.getComment())
-					.build();
+			for (AlertByIngredientResponse response : result.getValue().getRiskyMembers()) {
+				UUID memberId = UUID.fromString(response.getMemberId());
+				riskyComments.put(memberId, response.getComment());
 
-				alerts.add(alert);
+				alerts.add(createAlert(memberId, ingredient.getIngredientId(), response.getComment()));
 			}
+
+			alertVerdictCache.putAll(ingredient.getName(), members, riskyComments);
 		}
 
 		return alerts;
 	}
 
-	private List<Alert> createAlertByMemberLLM(UUID memberId) {
+	/**
+	 * @return LLM 이 분석에 실패하면 빈 Optional
+	 */
+	private Optional<List<Alert>> createAlertByMemberLLM(UUID memberId) {
 		List<Alert> alerts = new ArrayList<>();
 
 		AlertByMemberListResponse listResponse = llmApiAlertService.createAlertByMember(memberId);
 
+		if (!listResponse.isAnalyzed()) {
+			return Optional.empty();
+		}
+
 		for (AlertByMemberResponse response : listResponse.getRiskIngredients()) {
 			Member memberRef = entityManager.getReference(Member.class, memberId);
 
@@ -117,6 +399,6 @@ public class AlertService {
 			alerts.add(alert);
 		}
 
-		return alerts;
+		return Optional.of(alerts);
 	}
 }
@@ -0,0 +1,18 @@
+package com.seethrough.api.alert.domain;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class AlertMatrixEntry {
+	private UUID memberId;
+	private UUID ingredientId;
+	private String ingredientName;
+	private boolean isDanger;
+	private String comment;
+}
@@ -1,11 +1,31 @@
 package com.seethrough.api.alert.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface AlertRepository {
 
-	void saveAllWithoutDuplicates(List<Alert> alerts);
+	int saveAllWithoutDuplicates(List<Alert> alerts);
 
 	Optional<Alert> findByAlertId(AlertId alertId);
+
+	List<Alert> findAllByMemberIdAndIngredientIds(UUID memberId, Collection<UUID> ingredientIds);
+
+	List<Alert> findAllByMemberId(UUID memberId);
+
+	int deleteAllByMemberIdAndIngredientIds(UUID memberId, Collection<UUID> ingredientIds);
+
+	int deleteAllByMemberId(UUID memberId);
+
+	List<AlertId> findMissingAlertIds(int limit);
+
+	List<AlertId> findAllAlertIds();
+
+	long countActiveMemberIngredientPairs();
+
+	long countActiveMemberAlerts();
+
+	List<AlertMatrixEntry> findAlertMatrix(UUID memberId);
 }
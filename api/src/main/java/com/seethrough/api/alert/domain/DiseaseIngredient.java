@@ -0,0 +1,17 @@
+package com.seethrough.api.alert.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class DiseaseIngredient {
+	private String disease;
+	private String ingredient;
+	private String reason;
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package com.seethrough.api.alert.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DiseaseIngredientRepository {
+
+	List<DiseaseIngredient> findAllCreatedAtOrAfter(LocalDateTime watermark);
+}
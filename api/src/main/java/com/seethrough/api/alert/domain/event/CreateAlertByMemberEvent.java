@@ -1,5 +1,6 @@
 package com.seethrough.api.alert.domain.event;
 
+import java.util.Set;
 import java.util.UUID;
 
 import lombok.Builder;
@@ -11,4 +12,18 @@ import lombok.ToString;
 @ToString
 public class CreateAlertByMemberEvent {
 	private final UUID memberId;
+
+	@Builder.Default
+	private final Set<String> addedAllergies = Set.of();
+
+	@Builder.Default
+	private final Set<String> removedAllergies = Set.of();
+
+	@Builder.Default
+	private final Set<String> addedDiseases = Set.of();
+
+	@Builder.Default
+	private final Set<String> removedDiseases = Set.of();
+
+	private final boolean ageChanged;
 }
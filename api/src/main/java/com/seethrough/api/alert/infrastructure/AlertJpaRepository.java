@@ -1,13 +1,40 @@
 package com.seethrough.api.alert.infrastructure;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.seethrough.api.alert.domain.Alert;
 import com.seethrough.api.alert.domain.AlertId;
+import com.seethrough.api.alert.domain.AlertMatrixEntry;
 
 public interface AlertJpaRepository extends JpaRepository<Alert, AlertId> {
 
 	Optional<Alert> findByAlertId(AlertId alertId);
+
+	@Query("SELECT a FROM Alert a JOIN FETCH a.ingredient WHERE a.alertId.memberId = :memberId")
+	List<Alert> findAllByMemberIdWithIngredient(@Param("memberId") UUID memberId);
+
+	@Modifying
+	@Query("DELETE FROM Alert a WHERE a.alertId.memberId = :memberId AND a.alertId.ingredientId IN :ingredientIds")
+	int deleteAllByMemberIdAndIngredientIds(@Param("memberId") UUID memberId, @Param("ingredientIds") Collection<UUID> ingredientIds);
+
+	@Modifying
+	@Query("DELETE FROM Alert a WHERE a.alertId.memberId = :memberId")
+	int deleteAllByMemberId(@Param("memberId") UUID memberId);
+
+	@Query("SELECT new com.seethrough.api.alert.domain.AlertMatrixEntry(a.alertId.memberId, i.ingredientId, i.name, a.isDanger, a.comment) " +
+		"FROM Alert a JOIN a.ingredient i JOIN a.member m " +
+		"WHERE m.deletedAt IS NULL AND (:memberId IS NULL OR m.memberId = :memberId) " +
+		"ORDER BY m.memberId, i.ingredientId")
+	List<AlertMatrixEntry> findAlertMatrix(@Param("memberId") UUID memberId);
+
+	@Query("SELECT a FROM Alert a WHERE a.alertId.memberId = :memberId AND a.alertId.ingredientId IN :ingredientIds")
+	List<Alert> findAllByMemberIdAndIngredientIds(@Param("memberId") UUID memberId, @Param("ingredientIds") Collection<UUID> ingredientIds);
 }
@@ -1,15 +1,24 @@
 package com.seethrough.api.alert.infrastructure;
 
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.seethrough.api.alert.domain.Alert;
 import com.seethrough.api.alert.domain.AlertId;
+import com.seethrough.api.alert.domain.AlertMatrixEntry;
 import com.seethrough.api.alert.domain.AlertRepository;
+import com.seethrough.api.alert.infrastructure.cache.AlertLookupCache;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -21,40 +30,268 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AlertRepositoryImpl implements AlertRepository {
 
+	// 이미 있는 경고와 그 사이 출고된 식재료는 건너뛰고, 모든 행을 하나의 문장으로 저장
+	// 단, 미리 만들어 둔 일반 코멘트(is_danger = false)는 새 위험 경고로 덮어씀
+	private static final String UPSERT_ALERTS =
+		"INSERT INTO alerts (member_id, ingredient_id, comment, is_danger) " +
+			"SELECT a.member_id, a.ingredient_id, a.comment, a.is_danger " +
+			"FROM unnest(?::varchar[], ?::varchar[], ?::text[], ?::boolean[]) AS a(member_id, ingredient_id, comment, is_danger) " +
+			"JOIN ingredients i ON i.ingredient_id = a.ingredient_id " +
+			"ON CONFLICT (member_id, ingredient_id) DO UPDATE " +
+			"SET comment = EXCLUDED.comment, is_danger = EXCLUDED.is_danger " +
+			"WHERE alerts.is_danger = FALSE AND EXCLUDED.is_danger = TRUE";
+
+	private static final String SELECT_MISSING_ALERT_IDS =
+		"SELECT m.member_id, i.ingredient_id " +
+			"FROM members m CROSS JOIN ingredients i " +
+			"WHERE m.deleted_at IS NULL " +
+			"AND NOT EXISTS (SELECT 1 FROM alerts a WHERE a.member_id = m.member_id AND a.ingredient_id = i.ingredient_id) " +
+			"ORDER BY m.last_login_at DESC NULLS LAST, i.inbound_at DESC " +
+			"LIMIT :limit";
+
+	private static final String SELECT_ALL_ALERT_IDS =
+		"SELECT member_id, ingredient_id FROM alerts";
+
+	private static final String COUNT_ACTIVE_MEMBER_INGREDIENT_PAIRS =
+		"SELECT (SELECT COUNT(*) FROM members WHERE deleted_at IS NULL) * (SELECT COUNT(*) FROM ingredients)";
+
+	private static final String COUNT_ACTIVE_MEMBER_ALERTS =
+		"SELECT COUNT(*) FROM alerts a JOIN members m ON m.member_id = a.member_id WHERE m.deleted_at IS NULL";
+
 	@PersistenceContext
 	private final EntityManager entityManager;
 	private final AlertJpaRepository alertJpaRepository;
+	private final AlertLookupCache alertLookupCache;
 
 	@Override
-	public void saveAllWithoutDuplicates(List<Alert> alerts) {
-		log.debug("[Repository] saveAll 호출: {} 개의 경고", alerts.size());
+	public int saveAllWithoutDuplicates(List<Alert> alerts) {
+		log.debug("[Repository] saveAllWithoutDuplicates 호출: {} 개의 경고", alerts.size());
 
-		List<AlertId> alertIds = alerts.stream()
-			.map(Alert::getAlertId)
+		if (alerts.isEmpty()) {
+			return 0;
+		}
+
+		entityManager.flush();
+
+		// 같은 문장 안에서 한 행을 두 번 갱신할 수 없으므로 (구성원, 식재료) 당 앞선 경고만 남김
+		List<Alert> uniqueAlerts = alerts.stream()
+			.collect(Collectors.toMap(Alert::getAlertId, alert -> alert, (first, second) -> first, LinkedHashMap::new))
+			.values()
+			.stream()
 			.toList();
 
-		List<Alert> existingAlerts = alertJpaRepository.findAllById(alertIds);
-		Set<AlertId> existingAlertIds = existingAlerts.stream()
+		List<AlertId> alertIds = uniqueAlerts.stream()
 			.map(Alert::getAlertId)
-			.collect(Collectors.toSet());
-
-		List<Alert> saveAlerts = alerts.stream()
-			.filter(alert -> !existingAlertIds.contains(alert.getAlertId()))
 			.toList();
 
-		log.debug("[Repository] 중복 검사 후 저장할 경고의 수: {}", saveAlerts.size());
+		// 커밋 직후 조회가 블룸 필터에서 걸러지지 않도록 실행 전에 반영
+		alertLookupCache.markWritten(alertIds);
+
+		int inserted = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(UPSERT_ALERTS)) {
+				statement.setArray(1, connection.createArrayOf("varchar", uniqueAlerts.stream()
+					.map(alert -> alert.getAlertId().getMemberId().toString())
+					.toArray()));
+				statement.setArray(2, connection.createArrayOf("varchar", uniqueAlerts.stream()
+					.map(alert -> alert.getAlertId().getIngredientId().toString())
+					.toArray()));
+				statement.setArray(3, connection.createArrayOf("text", uniqueAlerts.stream()
+					.map(Alert::getComment)
+					.toArray()));
+				statement.setArray(4, connection.createArrayOf("boolean", uniqueAlerts.stream()
+					.map(Alert::isDanger)
+					.toArray()));
 
-		saveAlerts.forEach(entityManager::persist);
+				return statement.executeUpdate();
+			}
+		});
+
+		// 커밋 전에 지우면 동시 조회가 이전 행을 다시 캐시할 수 있으므로 커밋 후에 제거
+		afterCommit(() -> {
+			alertLookupCache.evict(alertIds);
+			alertLookupCache.markWritten(alertIds);
+		});
+
+		log.debug("[Repository] 중복 제외 후 저장된 경고의 수: {}", inserted);
+
+		return inserted;
 	}
 
 	@Override
 	public Optional<Alert> findByAlertId(AlertId alertId) {
 		log.debug("[Repository] findByAlertId 호출");
 
+		if (!alertLookupCache.mightContain(alertId)) {
+			log.debug("[Repository] 블룸 필터 결과 경고 없음");
+			return Optional.empty();
+		}
+
+		Optional<Alert> cached = alertLookupCache.get(alertId);
+		if (cached.isPresent()) {
+			log.debug("[Repository] 캐시에서 조회된 경고: {}", cached.get());
+			return cached;
+		}
+
 		Optional<Alert> entity = alertJpaRepository.findByAlertId(alertId);
 
 		log.debug("[Repository] 조회된 경고: {}", entity);
 
+		entity.ifPresent(alertLookupCache::put);
+
 		return entity;
 	}
+
+	@Override
+	public List<Alert> findAllByMemberIdAndIngredientIds(UUID memberId, Collection<UUID> ingredientIds) {
+		log.debug("[Repository] findAllByMemberIdAndIngredientIds 호출: memberId={}, {} 개의 식재료", memberId, ingredientIds.size());
+
+		List<Alert> result = new ArrayList<>();
+		List<UUID> misses = new ArrayList<>();
+
+		for (UUID ingredientId : ingredientIds) {
+			AlertId alertId = AlertId.builder()
+				.memberId(memberId)
+				.ingredientId(ingredientId)
+				.build();
+
+			if (!alertLookupCache.mightContain(alertId)) {
+				continue;
+			}
+
+			alertLookupCache.get(alertId).ifPresentOrElse(result::add, () -> misses.add(ingredientId));
+		}
+
+		if (!misses.isEmpty()) {
+			List<Alert> entities = alertJpaRepository.findAllByMemberIdAndIngredientIds(memberId, misses);
+			entities.forEach(alertLookupCache::put);
+			result.addAll(entities);
+		}
+
+		log.debug("[Repository] 조회된 경고 수: {}, DB 조회 {} 개", result.size(), misses.size());
+
+		return result;
+	}
+
+	@Override
+	public List<Alert> findAllByMemberId(UUID memberId) {
+		log.debug("[Repository] findAllByMemberId 호출: memberId={}", memberId);
+
+		List<Alert> entities = alertJpaRepository.findAllByMemberIdWithIngredient(memberId);
+
+		log.debug("[Repository] 조회된 경고 수: {}", entities.size());
+
+		return entities;
+	}
+
+	@Override
+	public int deleteAllByMemberIdAndIngredientIds(UUID memberId, Collection<UUID> ingredientIds) {
+		log.debug("[Repository] deleteAllByMemberIdAndIngredientIds 호출: memberId={}, {} 개의 식재료", memberId, ingredientIds.size());
+
+		if (ingredientIds.isEmpty()) {
+			return 0;
+		}
+
+		int deleted = alertJpaRepository.deleteAllByMemberIdAndIngredientIds(memberId, ingredientIds);
+
+		List<AlertId> alertIds = ingredientIds.stream()
+			.map(ingredientId -> AlertId.builder()
+				.memberId(memberId)
+				.ingredientId(ingredientId)
+				.build())
+			.toList();
+
+		afterCommit(() -> alertLookupCache.evict(alertIds));
+
+		log.debug("[Repository] 삭제된 경고 수: {}", deleted);
+
+		return deleted;
+	}
+
+	@Override
+	public int deleteAllByMemberId(UUID memberId) {
+		log.debug("[Repository] deleteAllByMemberId 호출: memberId={}", memberId);
+
+		int deleted = alertJpaRepository.deleteAllByMemberId(memberId);
+
+		afterCommit(() -> alertLookupCache.evictMember(memberId));
+
+		log.debug("[Repository] 삭제된 경고 수: {}", deleted);
+
+		return deleted;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<AlertId> findMissingAlertIds(int limit) {
+		log.debug("[Repository] findMissingAlertIds 호출: limit={}", limit);
+
+		List<Object[]> rows = entityManager.createNativeQuery(SELECT_MISSING_ALERT_IDS)
+			.setParameter("limit", limit)
+			.getResultList();
+
+		log.debug("[Repository] 경고가 없는 (구성원, 식재료) 수: {}", rows.size());
+
+		return rows.stream()
+			.map(row -> AlertId.builder()
+				.memberId(UUID.fromString((String)row[0]))
+				.ingredientId(UUID.fromString((String)row[1]))
+				.build())
+			.toList();
+	}
+
+	@Override
+	public long countActiveMemberIngredientPairs() {
+		log.debug("[Repository] countActiveMemberIngredientPairs 호출");
+
+		return ((Number)entityManager.createNativeQuery(COUNT_ACTIVE_MEMBER_INGREDIENT_PAIRS).getSingleResult()).longValue();
+	}
+
+	@Override
+	public long countActiveMemberAlerts() {
+		log.debug("[Repository] countActiveMemberAlerts 호출");
+
+		return ((Number)entityManager.createNativeQuery(COUNT_ACTIVE_MEMBER_ALERTS).getSingleResult()).longValue();
+	}
+
+	@Override
+	public List<AlertMatrixEntry> findAlertMatrix(UUID memberId) {
+		log.debug("[Repository] findAlertMatrix 호출: memberId={}", memberId);
+
+		List<AlertMatrixEntry> entries = alertJpaRepository.findAlertMatrix(memberId);
+
+		log.debug("[Repository] 조회된 경고 수: {}", entries.size());
+
+		return entries;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<AlertId> findAllAlertIds() {
+		log.debug("[Repository] findAllAlertIds 호출");
+
+		List<Object[]> rows = entityManager.createNativeQuery(SELECT_ALL_ALERT_IDS).getResultList();
+
+		log.debug("[Repository] 조회된 경고 수: {}", rows.size());
+
+		return rows.stream()
+			.map(row -> AlertId.builder()
+				.memberId(UUID.fromString((String)row[0]))
+				.ingredientId(UUID.fromString((String)row[1]))
+				.build())
+			.toList();
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
 }
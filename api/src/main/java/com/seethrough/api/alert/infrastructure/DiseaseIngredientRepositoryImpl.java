@@ -0,0 +1,56 @@
+package com.seethrough.api.alert.infrastructure;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.seethrough.api.alert.domain.DiseaseIngredient;
+import com.seethrough.api.alert.domain.DiseaseIngredientRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM(RAG) 서비스가 적재하는 disease_vectors 테이블에서 질병-식재료 관계만 읽는 저장소
+ * 임베딩 컬럼은 읽지 않습니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class DiseaseIngredientRepositoryImpl implements DiseaseIngredientRepository {
+
+	private static final String SELECT_CREATED_AT_OR_AFTER =
+		"SELECT disease, ingredient, reason, created_at FROM disease_vectors " +
+			"WHERE created_at >= :watermark ORDER BY created_at";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<DiseaseIngredient> findAllCreatedAtOrAfter(LocalDateTime watermark) {
+		log.debug("[Repository] findAllCreatedAtOrAfter 호출: watermark={}", watermark);
+
+		List<Object[]> rows = entityManager.createNativeQuery(SELECT_CREATED_AT_OR_AFTER)
+			.setParameter("watermark", watermark)
+			.getResultList();
+
+		log.debug("[Repository] 조회된 질병-식재료 관계 수: {}", rows.size());
+
+		return rows.stream()
+			.map(row -> new DiseaseIngredient(
+				(String)row[0],
+				(String)row[1],
+				(String)row[2],
+				toLocalDateTime(row[3])))
+			.toList();
+	}
+
+	private LocalDateTime toLocalDateTime(Object value) {
+		return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime)value;
+	}
+}
@@ -0,0 +1,246 @@
+package com.seethrough.api.alert.infrastructure.cache;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.seethrough.api.alert.domain.Alert;
+import com.seethrough.api.alert.domain.AlertId;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경고 단건 조회 캐시
+ * - LRU: AlertId -> 경고 (연관 엔티티 없이 코멘트와 위험 여부만 담은 사본)
+ * - 블룸 필터: 존재하는 AlertId 집합. "없음" 이면 확실히 경고가 없으므로 DB 를 조회하지 않습니다.
+ * 블룸 필터는 삭제를 반영할 수 없어 삭제된 경고는 "있을 수 있음" 으로 남으며(DB 조회로 확인), 주기적으로 다시 만듭니다.
+ * 최근 recent-write-retention-ms 동안 저장된 ID 는 따로 보관해 새 필터에 함께 넣어,
+ * 재생성 시작 전에 저장을 시작했지만 DB 스냅샷 이후에 커밋된 경고도 빠지지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class AlertLookupCache {
+
+	@Value("${alert.lookup-cache.max-size:10000}")
+	private int maxSize;
+
+	@Value("${alert.lookup-cache.bloom-expected-insertions:100000}")
+	private int expectedInsertions;
+
+	@Value("${alert.lookup-cache.bloom-false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	@Value("${alert.lookup-cache.recent-write-retention-ms:600000}")
+	private long recentWriteRetentionMs;
+
+	private Map<AlertId, Alert> alerts;
+
+	private BloomFilter bloomFilter;
+	private boolean bloomReady = false;
+	private boolean rebuilding = false;
+	private final Map<AlertId, Long> recentlyWritten = new LinkedHashMap<>();
+
+	private final AtomicLong lookupCount = new AtomicLong();
+	private final AtomicLong bloomNegativeCount = new AtomicLong();
+	private final AtomicLong cacheHitCount = new AtomicLong();
+
+	@PostConstruct
+	void init() {
+		alerts = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<AlertId, Alert> eldest) {
+				return size() > maxSize;
+			}
+		};
+		bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+	}
+
+	/**
+	 * @return 확실히 경고가 없으면 false (블룸 필터 적재 전에는 항상 true)
+	 */
+	public synchronized boolean mightContain(AlertId alertId) {
+		lookupCount.incrementAndGet();
+
+		if (!bloomReady || bloomFilter.mightContain(alertId)) {
+			return true;
+		}
+
+		bloomNegativeCount.incrementAndGet();
+		return false;
+	}
+
+	public synchronized Optional<Alert> get(AlertId alertId) {
+		Alert alert = alerts.get(alertId);
+
+		if (alert != null) {
+			cacheHitCount.incrementAndGet();
+		}
+
+		return Optional.ofNullable(alert);
+	}
+
+	public synchronized void put(Alert alert) {
+		alerts.put(alert.getAlertId(), Alert.builder()
+			.alertId(alert.getAlertId())
+			.comment(alert.getComment())
+			.isDanger(alert.isDanger())
+			.build());
+	}
+
+	/**
+	 * 경고를 저장할 때 호출합니다. 블룸 필터에 추가하고 재생성에 대비해 최근 저장 ID 로 보관합니다.
+	 * 블룸 필터는 거짓 양성만 허용하므로 커밋 전에 호출해도 되며, 커밋 후에 다시 호출해 재생성과 겹친 경우도 반영합니다.
+	 */
+	public synchronized void markWritten(Collection<AlertId> alertIds) {
+		long now = System.currentTimeMillis();
+
+		alertIds.forEach(alertId -> {
+			bloomFilter.put(alertId);
+
+			recentlyWritten.remove(alertId);
+			recentlyWritten.put(alertId, now);
+		});
+
+		removeExpiredRecentWrites(now);
+	}
+
+	private void removeExpiredRecentWrites(long now) {
+		// 재생성 중에는 스냅샷에 빠졌을 수 있는 ID 를 지우지 않음
+		if (rebuilding) {
+			return;
+		}
+
+		Iterator<Map.Entry<AlertId, Long>> iterator = recentlyWritten.entrySet().iterator();
+
+		while (iterator.hasNext() && iterator.next().getValue() < now - recentWriteRetentionMs) {
+			iterator.remove();
+		}
+	}
+
+	public synchronized void evict(Collection<AlertId> alertIds) {
+		alertIds.forEach(alerts::remove);
+	}
+
+	public synchronized void evictMember(UUID memberId) {
+		alerts.keySet().removeIf(alertId -> alertId.getMemberId().equals(memberId));
+	}
+
+	public synchronized void evictIngredients(Collection<UUID> ingredientIds) {
+		alerts.keySet().removeIf(alertId -> ingredientIds.contains(alertId.getIngredientId()));
+	}
+
+	public synchronized void beginRebuild() {
+		rebuilding = true;
+	}
+
+	public synchronized void completeRebuild(Collection<AlertId> existingAlertIds) {
+		BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, existingAlertIds.size() * 2), falsePositiveRate);
+		existingAlertIds.forEach(rebuilt::put);
+
+		recentlyWritten.keySet().forEach(rebuilt::put);
+
+		bloomFilter = rebuilt;
+		bloomReady = true;
+		rebuilding = false;
+
+		log.info("[AlertLookupCache] 블룸 필터 재생성: 경고 {} 개, 최근 저장 {} 개, 비트 {} 개, 해시 {} 개",
+			existingAlertIds.size(), recentlyWritten.size(), rebuilt.bitSize, rebuilt.hashCount);
+
+		removeExpiredRecentWrites(System.currentTimeMillis());
+	}
+
+	public synchronized void cancelRebuild() {
+		rebuilding = false;
+	}
+
+	public synchronized Stats getStats() {
+		long lookups = lookupCount.get();
+		long bloomNegatives = bloomNegativeCount.get();
+		long cacheHits = cacheHitCount.get();
+
+		return new Stats(
+			lookups,
+			bloomNegatives,
+			cacheHits,
+			lookups == 0 ? 0 : (bloomNegatives + cacheHits) * 100.0 / lookups,
+			alerts.size(),
+			bloomReady);
+	}
+
+	@Getter
+	@ToString
+	@AllArgsConstructor
+	public static class Stats {
+		private long lookupCount;
+		private long bloomNegativeCount;
+		private long cacheHitCount;
+		private double hitRate;
+		private int cacheSize;
+		private boolean bloomReady;
+	}
+
+	static class BloomFilter {
+		private final BitSet bits;
+		private final int bitSize;
+		private final int hashCount;
+
+		BloomFilter(int expectedInsertions, double falsePositiveRate) {
+			int n = Math.max(1, expectedInsertions);
+			this.bitSize = (int)Math.max(64, Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+			this.hashCount = Math.max(1, (int)Math.round((double)bitSize / n * Math.log(2)));
+			this.bits = new BitSet(bitSize);
+		}
+
+		void put(AlertId alertId) {
+			long h1 = hash1(alertId);
+			long h2 = hash2(alertId);
+
+			for (int i = 0; i < hashCount; i++) {
+				bits.set((int)Math.floorMod(h1 + i * h2, (long)bitSize));
+			}
+		}
+
+		boolean mightContain(AlertId alertId) {
+			long h1 = hash1(alertId);
+			long h2 = hash2(alertId);
+
+			for (int i = 0; i < hashCount; i++) {
+				if (!bits.get((int)Math.floorMod(h1 + i * h2, (long)bitSize))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private static long hash1(AlertId alertId) {
+			return mix(alertId.getMemberId().getMostSignificantBits() * 31 + alertId.getIngredientId().getLeastSignificantBits());
+		}
+
+		private static long hash2(AlertId alertId) {
+			return mix(alertId.getIngredientId().getMostSignificantBits() * 31 + alertId.getMemberId().getLeastSignificantBits()) | 1;
+		}
+
+		// MurmurHash3 fmix64
+		private static long mix(long value) {
+			value ^= value >>> 33;
+			value *= 0xff51afd7ed558ccdL;
+			value ^= value >>> 33;
+			value *= 0xc4ceb9fe1a85ec53L;
+			value ^= value >>> 33;
+			return value;
+		}
+	}
+}
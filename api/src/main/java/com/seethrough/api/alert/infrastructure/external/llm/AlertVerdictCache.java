@@ -0,0 +1,170 @@
+package com.seethrough.api.alert.infrastructure.external.llm;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.seethrough.api.alert.infrastructure.matcher.AgeGroup;
+import com.seethrough.api.alert.infrastructure.matcher.AllergyMatcher;
+import com.seethrough.api.member.domain.Member;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식재료 LLM 위험 판정 캐시
+ * 키는 정규화된 식재료 이름과 구성원 건강 정보(알레르기, 질병, 연령대) 해시이며,
+ * 같은 건강 정보를 가진 구성원이라면 같은 판정을 재사용합니다.
+ * 구성원 건강 정보가 바뀌면 해시가 달라지므로 이전 판정은 더 이상 조회되지 않고, invalidate 로 정리합니다.
+ * 판정은 ttl-ms 가 지나면 만료되어 LLM 에 다시 요청합니다.
+ */
+@Slf4j
+@Component
+public class AlertVerdictCache {
+
+	private static final String KEY_DELIMITER = "\u0000";
+
+	@Value("${alert.verdict-cache.max-size:5000}")
+	private int maxSize;
+
+	@Value("${alert.verdict-cache.ttl-ms:86400000}")
+	private long ttlMs;
+
+	private Map<String, CachedVerdict> verdicts;
+	private final Map<UUID, String> profileHashByMember = new HashMap<>();
+
+	private final AtomicLong lookupCount = new AtomicLong();
+	private final AtomicLong hitCount = new AtomicLong();
+
+	@PostConstruct
+	void init() {
+		verdicts = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedVerdict> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * 캐시에 판정이 있는 구성원만 담아 반환합니다.
+	 * 반환된 크기가 members 크기와 같으면 LLM 요청 없이 경고를 만들 수 있습니다.
+	 */
+	public Map<UUID, Verdict> getAll(String ingredientName, List<Member> members) {
+		String nameKey = AllergyMatcher.normalize(ingredientName);
+		Map<UUID, Verdict> result = new HashMap<>();
+		long now = System.currentTimeMillis();
+
+		synchronized (this) {
+			members.forEach(member -> {
+				String profileHash = profileHash(member);
+				profileHashByMember.put(member.getMemberId(), profileHash);
+
+				String key = nameKey + KEY_DELIMITER + profileHash;
+				CachedVerdict cached = verdicts.get(key);
+
+				if (cached == null) {
+					return;
+				}
+
+				if (cached.expiresAt <= now) {
+					verdicts.remove(key);
+					return;
+				}
+
+				result.put(member.getMemberId(), cached.verdict);
+			});
+		}
+
+		long lookups = lookupCount.incrementAndGet();
+		long hits = result.size() == members.size() ? hitCount.incrementAndGet() : hitCount.get();
+
+		log.debug("[AlertVerdictCache] 판정 캐시 조회: ingredientName={}, 적중 {} / {} 명, 누적 식재료 적중률 {}%",
+			ingredientName, result.size(), members.size(), hits * 100 / lookups);
+
+		return result;
+	}
+
+	/**
+	 * LLM 응답을 구성원별 판정으로 저장합니다. riskyComments 에 없는 구성원은 위험하지 않은 것으로 기록하므로,
+	 * 분석에 성공한 응답만 저장해야 합니다.
+	 */
+	public synchronized void putAll(String ingredientName, List<Member> members, Map<UUID, String> riskyComments) {
+		String nameKey = AllergyMatcher.normalize(ingredientName);
+		long expiresAt = System.currentTimeMillis() + ttlMs;
+
+		members.forEach(member -> {
+			String profileHash = profileHash(member);
+			profileHashByMember.put(member.getMemberId(), profileHash);
+
+			String comment = riskyComments.get(member.getMemberId());
+			verdicts.put(nameKey + KEY_DELIMITER + profileHash, new CachedVerdict(new Verdict(comment != null, comment), expiresAt));
+		});
+	}
+
+	public synchronized void invalidate(UUID memberId) {
+		String profileHash = profileHashByMember.remove(memberId);
+
+		if (profileHash == null || profileHashByMember.containsValue(profileHash)) {
+			return;
+		}
+
+		int before = verdicts.size();
+		verdicts.keySet().removeIf(key -> key.endsWith(KEY_DELIMITER + profileHash));
+
+		log.debug("[AlertVerdictCache] 판정 캐시 무효화: memberId={}, 제거 {} 개", memberId, before - verdicts.size());
+	}
+
+	private static String profileHash(Member member) {
+		String profile = String.join("|",
+			normalizeAll(member.getAllergies()),
+			normalizeAll(member.getDiseases()),
+			AgeGroup.of(member.getAge()).name());
+
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(profile.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String normalizeAll(Set<String> terms) {
+		return terms == null ? "" : terms.stream()
+			.filter(term -> term != null && !term.isBlank())
+			.map(AllergyMatcher::normalize)
+			.sorted()
+			.distinct()
+			.collect(Collectors.joining(","));
+	}
+
+	@Getter
+	@ToString
+	@AllArgsConstructor
+	public static class Verdict {
+		private boolean risky;
+		private String comment;
+	}
+
+	@AllArgsConstructor
+	private static class CachedVerdict {
+		private final Verdict verdict;
+		private final long expiresAt;
+	}
+}
@@ -8,10 +8,12 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import com.seethrough.api.alert.infrastructure.external.llm.dto.response.AlertByIngredientListResponse;
 import com.seethrough.api.alert.infrastructure.external.llm.dto.response.AlertByMemberListResponse;
+import com.seethrough.api.alert.infrastructure.external.llm.dto.response.AlertCommentResponse;
 import com.seethrough.api.common.infrastructure.LlmApiClient;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
@@ -20,7 +22,7 @@ public class LlmApiAlertService {
 
 	private final LlmApiClient llmApiClient;
 
-	public AlertByIngredientListResponse createAlertByIngredient(String ingredientName) {
+	public Mono<AlertByIngredientListResponse> createAlertByIngredient(String ingredientName) {
 		log.info("[LlmApiAlertService] 식재료에 대한 구성원 경고 생성 요청 시작: ingredientName={}", ingredientName);
 
 		String uri = UriComponentsBuilder.fromPath("/llm/food/risky-check")
@@ -29,8 +31,7 @@ public class LlmApiAlertService {
 			.toUriString();
 
 		return llmApiClient.sendRequestMono(HttpMethod.GET, uri, AlertByIngredientListResponse.class)
-			.doOnNext(response -> log.info("[LlmApiAlertService] 식재료에 대한 구성원 경고 생성 응답: {}", response))
-			.block();
+			.doOnNext(response -> log.info("[LlmApiAlertService] 식재료에 대한 구성원 경고 생성 응답: {}", response));
 	}
 
 	public AlertByMemberListResponse createAlertByMember(UUID memberId) {
@@ -45,4 +46,16 @@ public class LlmApiAlertService {
 			.doOnNext(response -> log.info("[LlmApiAlertService] 구성원 정보 수정에 대한 구성원 경고 생성 응답: {}", response))
 			.block();
 	}
+
+	public Mono<AlertCommentResponse> createComment(UUID memberId, UUID ingredientId) {
+		log.debug("[LlmApiAlertService] 구성원별 식재료 코멘트 사전 생성 요청 시작: memberId={}, ingredientId={}", memberId, ingredientId);
+
+		String uri = UriComponentsBuilder.fromPath("/llm/food/comment")
+			.queryParam("member_id", memberId)
+			.queryParam("ingredient_id", ingredientId)
+			.build()
+			.toUriString();
+
+		return llmApiClient.sendRequestMono(HttpMethod.GET, uri, AlertCommentResponse.class);
+	}
 }
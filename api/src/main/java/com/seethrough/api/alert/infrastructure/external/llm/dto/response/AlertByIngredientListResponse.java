@@ -15,4 +15,10 @@ public class AlertByIngredientListResponse {
 
 	@JsonProperty("risky_members")
 	private List<AlertByIngredientResponse> riskyMembers;
+
+	/**
+	 * LLM 서버가 분석에 실패하면 false 이며, 이때 risky_members 가 비어 있어도 위험이 없다는 뜻이 아닙니다.
+	 */
+	@JsonProperty("analyzed")
+	private boolean analyzed;
 }
@@ -15,4 +15,10 @@ public class AlertByMemberListResponse {
 
 	@JsonProperty("risky_ingredients")
 	private List<AlertByMemberResponse> riskIngredients;
+
+	/**
+	 * LLM 서버가 분석에 실패하면 false 이며, 이때 risky_ingredients 가 비어 있어도 위험이 없다는 뜻이 아닙니다.
+	 */
+	@JsonProperty("analyzed")
+	private boolean analyzed;
 }
@@ -0,0 +1,19 @@
+package com.seethrough.api.alert.infrastructure.external.llm.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class AlertCommentResponse {
+	@JsonProperty("ingredient_id")
+	private String ingredientId;
+
+	@JsonProperty("category")
+	private int category;
+
+	@JsonProperty("comment")
+	private String comment;
+}
@@ -0,0 +1,27 @@
+package com.seethrough.api.alert.infrastructure.matcher;
+
+/**
+ * 경고 판단에 쓰는 연령대
+ * LLM 위험 판단은 미성년자(19세 미만)에게 술/카페인, 65세 이상에게 딱딱하거나 짠 음식을 위험으로 보므로
+ * 두 연령대는 알레르기/질병이 없어도 LLM 판단이 필요합니다.
+ */
+public enum AgeGroup {
+	CHILD, TEEN, ADULT, SENIOR;
+
+	public static AgeGroup of(int age) {
+		if (age <= 12) {
+			return CHILD;
+		}
+		if (age <= 18) {
+			return TEEN;
+		}
+		if (age < 65) {
+			return ADULT;
+		}
+		return SENIOR;
+	}
+
+	public boolean isAgeSensitive() {
+		return this != ADULT;
+	}
+}
@@ -0,0 +1,86 @@
+package com.seethrough.api.alert.infrastructure.matcher;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * 여러 패턴을 입력 문자열 한 번 순회로 찾는 Aho-Corasick 오토마톤
+ * 패턴마다 결과 키(알레르기 항목)를 지정하며, 생성 후에는 변경하지 않습니다.
+ */
+class AhoCorasickAutomaton {
+
+	private final Node root = new Node();
+
+	AhoCorasickAutomaton(Map<String, Set<String>> keysByPattern) {
+		keysByPattern.forEach(this::insert);
+		buildFailureLinks();
+	}
+
+	Set<String> findAll(String text) {
+		Set<String> result = new HashSet<>();
+		Node node = root;
+
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+
+			while (node != root && !node.children.containsKey(c)) {
+				node = node.failure;
+			}
+
+			node = node.children.getOrDefault(c, root);
+			result.addAll(node.outputs);
+		}
+
+		return result;
+	}
+
+	private void insert(String pattern, Set<String> keys) {
+		if (pattern.isEmpty()) {
+			return;
+		}
+
+		Node node = root;
+		for (int i = 0; i < pattern.length(); i++) {
+			node = node.children.computeIfAbsent(pattern.charAt(i), c -> new Node());
+		}
+
+		node.outputs.addAll(keys);
+	}
+
+	private void buildFailureLinks() {
+		Queue<Node> queue = new ArrayDeque<>();
+
+		root.failure = root;
+		root.children.values().forEach(child -> {
+			child.failure = root;
+			queue.add(child);
+		});
+
+		while (!queue.isEmpty()) {
+			Node node = queue.poll();
+
+			node.children.forEach((c, child) -> {
+				Node failure = node.failure;
+				while (failure != root && !failure.children.containsKey(c)) {
+					failure = failure.failure;
+				}
+
+				Node candidate = failure.children.get(c);
+				child.failure = candidate == null || candidate == child ? root : candidate;
+				child.outputs.addAll(child.failure.outputs);
+
+				queue.add(child);
+			});
+		}
+	}
+
+	private static class Node {
+		private final Map<Character, Node> children = new HashMap<>();
+		private final Set<String> outputs = new HashSet<>();
+		private Node failure;
+	}
+}
@@ -0,0 +1,208 @@
+package com.seethrough.api.alert.infrastructure.matcher;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구성원 알레르기/질병 정보로 만든 식재료 경고 사전 검사기
+ * 정규화된 알레르기 항목과 그 대표 식품(동의어)으로 Aho-Corasick 오토마톤을 만들어
+ * 식재료 이름에 포함된 알레르기 항목을 LLM 호출 없이 찾습니다.
+ * 한 글자 항목(밀, 게, 굴 등)은 다른 이름에 섞여 오탐하기 쉬우므로 이름 전체가 같을 때만 적중으로 봅니다.
+ * 질병과 연령에 따른 위험은 이름만으로 판단할 수 없으므로, LLM 생략은 미성년자/65세 이상 구성원이 없을 때(AgeGroup)
+ * 아래 경우로 한정합니다.
+ * - 알레르기/질병 정보가 있는 구성원이 한 명도 없는 경우
+ * - trust-allergen-dictionary 가 켜져 있고, 질병이 있는 구성원이 없으며, 사전에 걸리는 알레르기도 없는 경우
+ */
+@Slf4j
+@Component
+public class AllergyMatcher {
+
+	private static final Map<String, List<String>> ALLERGEN_SYNONYMS = Map.ofEntries(
+		Map.entry("우유", List.of("우유", "치즈", "버터", "요거트", "요구르트", "생크림", "휘핑크림", "연유", "분유", "아이스크림", "라떼")),
+		Map.entry("유제품", List.of("우유", "치즈", "버터", "요거트", "요구르트", "생크림", "휘핑크림", "연유", "분유", "아이스크림")),
+		Map.entry("계란", List.of("계란", "달걀", "메추리알", "마요네즈", "오믈렛", "지단")),
+		Map.entry("달걀", List.of("계란", "달걀", "메추리알", "마요네즈", "오믈렛", "지단")),
+		Map.entry("난류", List.of("계란", "달걀", "메추리알", "마요네즈")),
+		Map.entry("땅콩", List.of("땅콩", "피넛")),
+		Map.entry("견과류", List.of("땅콩", "호두", "잣", "아몬드", "캐슈넛", "피스타치오", "마카다미아", "피칸", "헤이즐넛")),
+		Map.entry("대두", List.of("대두", "두부", "두유", "된장", "간장", "청국장", "유부")),
+		Map.entry("콩", List.of("대두", "두부", "두유", "된장", "간장", "청국장", "유부")),
+		Map.entry("밀", List.of("밀가루", "빵", "식빵", "국수", "라면", "파스타", "스파게티", "우동", "부침가루", "튀김가루", "만두")),
+		Map.entry("메밀", List.of("메밀")),
+		Map.entry("갑각류", List.of("새우", "게", "꽃게", "대게", "킹크랩", "랍스터", "가재")),
+		Map.entry("새우", List.of("새우", "대하", "칵테일새우")),
+		Map.entry("게", List.of("꽃게", "대게", "킹크랩", "게살", "게맛살")),
+		Map.entry("조개류", List.of("조개", "굴", "전복", "홍합", "바지락", "가리비", "꼬막", "재첩")),
+		Map.entry("고등어", List.of("고등어")),
+		Map.entry("오징어", List.of("오징어")),
+		Map.entry("복숭아", List.of("복숭아")),
+		Map.entry("토마토", List.of("토마토", "케첩")),
+		Map.entry("돼지고기", List.of("돼지고기", "삼겹살", "목살", "베이컨", "햄", "소시지")),
+		Map.entry("닭고기", List.of("닭고기", "닭가슴살", "닭다리")),
+		Map.entry("쇠고기", List.of("쇠고기", "소고기", "한우", "차돌박이")),
+		Map.entry("소고기", List.of("쇠고기", "소고기", "한우", "차돌박이"))
+	);
+
+	@Value("${alert.prescreen.trust-allergen-dictionary:false}")
+	private boolean trustAllergenDictionary;
+
+	private final Map<UUID, Set<String>> allergiesByMember = new HashMap<>();
+	private final Set<UUID> diseaseMembers = new HashSet<>();
+
+	private final AtomicLong checkedCount = new AtomicLong();
+	private final AtomicLong ruleHitCount = new AtomicLong();
+	private final AtomicLong llmSkipCount = new AtomicLong();
+
+	private volatile State state = new State(new AhoCorasickAutomaton(Map.of()), Map.of(), Map.of(), false, false);
+
+	public static String normalize(String term) {
+		return Normalizer.normalize(term, Normalizer.Form.NFC)
+			.replaceAll("\\s+", "")
+			.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 주어진 알레르기 항목만으로 식재료 이름을 검사합니다. 구성원 한 명의 변경분처럼 항목이 적을 때 사용합니다.
+	 *
+	 * @return 적중한 알레르기 항목(정규화된 이름)
+	 */
+	public static Set<String> matchAllergens(String ingredientName, Collection<String> allergies) {
+		String normalizedName = normalize(ingredientName);
+		Set<String> result = new HashSet<>();
+
+		allergies.stream()
+			.filter(allergy -> allergy != null && !allergy.isBlank())
+			.map(AllergyMatcher::normalize)
+			.forEach(allergen -> {
+				Set<String> patterns = new HashSet<>();
+				patterns.add(allergen);
+
+				ALLERGEN_SYNONYMS.getOrDefault(allergen, List.of()).stream()
+					.map(AllergyMatcher::normalize)
+					.forEach(patterns::add);
+
+				if (patterns.stream().anyMatch(pattern -> pattern.length() == 1 ? normalizedName.equals(pattern) : normalizedName.contains(pattern))) {
+					result.add(allergen);
+				}
+			});
+
+		return result;
+	}
+
+	public synchronized void update(UUID memberId, Set<String> allergies, Set<String> diseases) {
+		Set<String> normalizedAllergies = new HashSet<>();
+		allergies.stream()
+			.filter(allergy -> allergy != null && !allergy.isBlank())
+			.map(AllergyMatcher::normalize)
+			.forEach(normalizedAllergies::add);
+
+		if (normalizedAllergies.isEmpty()) {
+			allergiesByMember.remove(memberId);
+		}
+		else {
+			allergiesByMember.put(memberId, normalizedAllergies);
+		}
+
+		if (diseases.stream().anyMatch(disease -> disease != null && !disease.isBlank())) {
+			diseaseMembers.add(memberId);
+		}
+		else {
+			diseaseMembers.remove(memberId);
+		}
+
+		rebuild();
+	}
+
+	/**
+	 * @param hasAgeSensitiveMember 활성 구성원 중 미성년자나 65세 이상이 있는지 (있으면 LLM 을 생략하지 않음)
+	 */
+	public Result match(String ingredientName, boolean hasAgeSensitiveMember) {
+		State current = state;
+
+		String normalizedName = normalize(ingredientName);
+
+		Set<String> allergens = new HashSet<>(current.automaton.findAll(normalizedName));
+		allergens.addAll(current.exactAllergensByName.getOrDefault(normalizedName, Set.of()));
+
+		Map<UUID, Set<String>> hits = new HashMap<>();
+		allergens.forEach(allergen -> current.membersByAllergen.getOrDefault(allergen, Set.of())
+			.forEach(memberId -> hits.computeIfAbsent(memberId, id -> new HashSet<>()).add(allergen)));
+
+		boolean skipLlm = !hasAgeSensitiveMember
+			&& (!current.hasAllergyMember && !current.hasDiseaseMember
+			|| trustAllergenDictionary && !current.hasDiseaseMember && hits.isEmpty());
+
+		long checked = checkedCount.incrementAndGet();
+		long ruleHits = hits.isEmpty() ? ruleHitCount.get() : ruleHitCount.incrementAndGet();
+		long llmSkips = skipLlm ? llmSkipCount.incrementAndGet() : llmSkipCount.get();
+
+		log.info("[AllergyMatcher] 사전 검사: ingredientName={}, 규칙 적중 {} 명, LLM 생략 {} / 누적 검사 {}, 규칙 적중률 {}%, LLM 생략률 {}%",
+			ingredientName, hits.size(), skipLlm, checked, ruleHits * 100 / checked, llmSkips * 100 / checked);
+
+		return new Result(hits, skipLlm);
+	}
+
+	private void rebuild() {
+		Map<String, Set<UUID>> membersByAllergen = new HashMap<>();
+		allergiesByMember.forEach((memberId, allergies) -> allergies
+			.forEach(allergen -> membersByAllergen.computeIfAbsent(allergen, key -> new HashSet<>()).add(memberId)));
+
+		Map<String, Set<String>> allergensByPattern = new HashMap<>();
+		Map<String, Set<String>> exactAllergensByName = new HashMap<>();
+		membersByAllergen.keySet().forEach(allergen -> {
+			Set<String> patterns = new HashSet<>();
+			patterns.add(allergen);
+
+			ALLERGEN_SYNONYMS.getOrDefault(allergen, List.of()).stream()
+				.map(AllergyMatcher::normalize)
+				.forEach(patterns::add);
+
+			patterns.forEach(pattern -> (pattern.length() == 1 ? exactAllergensByName : allergensByPattern)
+				.computeIfAbsent(pattern, key -> new HashSet<>())
+				.add(allergen));
+		});
+
+		state = new State(
+			new AhoCorasickAutomaton(allergensByPattern),
+			exactAllergensByName,
+			membersByAllergen,
+			!allergiesByMember.isEmpty(),
+			!diseaseMembers.isEmpty());
+
+		log.debug("[AllergyMatcher] 사전 검사기 갱신: 알레르기 항목 {} 개, 패턴 {} 개, 질병 보유 구성원 {} 명",
+			membersByAllergen.size(), allergensByPattern.size() + exactAllergensByName.size(), diseaseMembers.size());
+	}
+
+	@Getter
+	@ToString
+	@AllArgsConstructor
+	public static class Result {
+		private Map<UUID, Set<String>> allergensByMember;
+		private boolean skipLlm;
+	}
+
+	@AllArgsConstructor
+	private static class State {
+		private final AhoCorasickAutomaton automaton;
+		private final Map<String, Set<String>> exactAllergensByName;
+		private final Map<String, Set<UUID>> membersByAllergen;
+		private final boolean hasAllergyMember;
+		private final boolean hasDiseaseMember;
+	}
+}
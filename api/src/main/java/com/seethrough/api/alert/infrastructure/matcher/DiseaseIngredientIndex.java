@@ -0,0 +1,102 @@
+package com.seethrough.api.alert.infrastructure.matcher;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.seethrough.api.alert.domain.DiseaseIngredient;
+import com.seethrough.api.alert.domain.DiseaseIngredientRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * disease_vectors 의 질병-식재료 관계를 JVM 내에 적재한 인덱스
+ * 질병/식재료 이름을 정규화 후 정수 ID 로 인턴하여 식재료 ID -> (질병 ID -> 사유) 로 보관하고,
+ * "식재료 X 가 구성원의 질병 중 하나에 걸리는가" 를 LLM 호출 없이 답합니다.
+ * created_at 워터마크 이후에 추가된 행만 주기적으로 읽어 증분 갱신합니다.
+ * 같은 created_at 의 행이 워터마크 경계에 걸칠 수 있어 워터마크 시각을 포함해 다시 읽으며, 같은 관계는 덮어씁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiseaseIngredientIndex {
+
+	private final DiseaseIngredientRepository diseaseIngredientRepository;
+
+	private final Map<String, Integer> diseaseIds = new ConcurrentHashMap<>();
+	private final Map<String, Integer> ingredientIds = new ConcurrentHashMap<>();
+	private final Map<Integer, Map<Integer, String>> reasonsByIngredient = new ConcurrentHashMap<>();
+
+	private volatile LocalDateTime watermark = LocalDateTime.MIN;
+
+	@Scheduled(fixedDelayString = "${alert.disease-index.refresh-interval-ms:300000}")
+	public synchronized void refresh() {
+		List<DiseaseIngredient> rows;
+		try {
+			rows = diseaseIngredientRepository.findAllCreatedAtOrAfter(watermark);
+		}
+		catch (Exception e) {
+			log.warn("[DiseaseIngredientIndex] 질병-식재료 관계 갱신 실패: watermark={}, error={}", watermark, e.getMessage());
+			return;
+		}
+
+		rows.forEach(row -> {
+			if (row.getDisease() == null || row.getDisease().isBlank() || row.getIngredient() == null || row.getIngredient().isBlank()) {
+				return;
+			}
+
+			int diseaseId = intern(diseaseIds, row.getDisease());
+			int ingredientId = intern(ingredientIds, row.getIngredient());
+
+			reasonsByIngredient.computeIfAbsent(ingredientId, key -> new ConcurrentHashMap<>())
+				.put(diseaseId, row.getReason());
+
+			if (row.getCreatedAt() != null && row.getCreatedAt().isAfter(watermark)) {
+				watermark = row.getCreatedAt();
+			}
+		});
+
+		log.debug("[DiseaseIngredientIndex] 인덱스 갱신: 읽은 행 {} 개, 질병 {} 개, 식재료 {} 개, watermark={}",
+			rows.size(), diseaseIds.size(), ingredientIds.size(), watermark);
+	}
+
+	/**
+	 * 식재료가 주어진 질병들 중 어디에 해당하는지 찾습니다.
+	 *
+	 * @return 해당하는 질병(입력 그대로의 이름) -> 사유
+	 */
+	public Map<String, String> findReasons(String ingredientName, Collection<String> diseases) {
+		Integer ingredientId = ingredientIds.get(AllergyMatcher.normalize(ingredientName));
+
+		if (ingredientId == null) {
+			return Map.of();
+		}
+
+		Map<Integer, String> reasons = reasonsByIngredient.getOrDefault(ingredientId, Map.of());
+
+		Map<String, String> result = new HashMap<>();
+		diseases.stream()
+			.filter(disease -> disease != null && !disease.isBlank())
+			.forEach(disease -> {
+				Integer diseaseId = diseaseIds.get(AllergyMatcher.normalize(disease));
+				String reason = diseaseId == null ? null : reasons.get(diseaseId);
+
+				if (reason != null) {
+					result.put(disease, reason);
+				}
+			});
+
+		return result;
+	}
+
+	private static int intern(Map<String, Integer> ids, String name) {
+		return ids.computeIfAbsent(AllergyMatcher.normalize(name), key -> ids.size());
+	}
+}
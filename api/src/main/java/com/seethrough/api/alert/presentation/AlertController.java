@@ -0,0 +1,68 @@
+package com.seethrough.api.alert.presentation;
+
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.seethrough.api.alert.application.service.AlertService;
+import com.seethrough.api.alert.presentation.dto.response.AlertLookupCacheStatsResponse;
+import com.seethrough.api.alert.presentation.dto.response.AlertMatrixResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/alerts")
+@Tag(name = "경고 관리", description = "구성원별 식재료 경고를 관리하는 API")
+public class AlertController {
+
+	private final AlertService alertService;
+
+	@GetMapping("/matrix")
+	@Operation(
+		summary = "구성원별 식재료 경고 일괄 조회",
+		description = "구성원의 모든 식재료 경고(위험 여부, 코멘트)를 한 번에 반환합니다.<br>" +
+			"구성원 ID가 없으면 삭제되지 않은 모든 구성원의 경고를 반환합니다.<br>" +
+			"응답에는 ETag 가 포함되며, If-None-Match 가 같으면 본문 없이 304 를 반환합니다."
+	)
+	public ResponseEntity<List<AlertMatrixResponse>> getAlertMatrix(
+		@Parameter(description = "구성원 ID")
+		@RequestParam(required = false) String memberId
+	) {
+		log.info("[Controller - GET /api/alerts/matrix] 식재료 경고 일괄 조회 요청: memberId={}", memberId);
+
+		List<AlertMatrixResponse> response = alertService.getAlertMatrix(memberId);
+
+		log.info("[Controller] 식재료 경고 일괄 조회 응답: 총 {}개 항목", response.size());
+
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.noCache().cachePrivate())
+			.body(response);
+	}
+
+	@GetMapping("/lookup-cache/stats")
+	@Operation(
+		summary = "경고 조회 캐시 통계",
+		description = "출고 시 경고 단건 조회에 쓰는 캐시/블룸 필터의 누적 통계를 반환합니다.<br>" +
+			"hitRate 는 DB 조회 없이 응답한 비율(블룸 필터로 없음 판정 + 캐시 적중)입니다."
+	)
+	public ResponseEntity<AlertLookupCacheStatsResponse> getLookupCacheStats() {
+		log.info("[Controller - GET /api/alerts/lookup-cache/stats] 경고 조회 캐시 통계 요청");
+
+		AlertLookupCacheStatsResponse response = alertService.getLookupCacheStats();
+
+		log.debug("[Controller] 응답: {}", response);
+
+		return ResponseEntity.ok(response);
+	}
+}
@@ -0,0 +1,17 @@
+package com.seethrough.api.alert.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class AlertLookupCacheStatsResponse {
+	private long lookupCount;
+	private long bloomNegativeCount;
+	private long cacheHitCount;
+	private double hitRate;
+	private int cacheSize;
+	private boolean bloomReady;
+}
@@ -0,0 +1,16 @@
+package com.seethrough.api.alert.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class AlertMatrixResponse {
+	private String memberId;
+	private String ingredientId;
+	private String ingredientName;
+	private boolean isDanger;
+	private String comment;
+}
@@ -0,0 +1,69 @@
+package com.seethrough.api.common.config;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * pgvector 의 vector 타입을 바이너리(send/recv 포맷)로 주고받도록 커넥션 풀을 설정합니다.
+ * PostgreSQL 드라이버는 binaryTransferEnable 에 숫자 OID 만 받는데 확장 타입의 OID 는 DB 마다 다르므로,
+ * 풀이 시작되기 전에 vector 타입의 OID 를 조회해 커넥션 속성으로 넣습니다.
+ * 조회에 실패하면 기존처럼 텍스트로 주고받습니다.
+ */
+@Slf4j
+@Configuration
+public class PgVectorConfig {
+
+	private static final String BINARY_TRANSFER_ENABLE = "binaryTransferEnable";
+	private static final String VECTOR_OID_QUERY = "SELECT to_regtype('vector')::oid";
+
+	@Bean
+	public static BeanPostProcessor pgVectorBinaryTransferPostProcessor(@Value("${pgvector.binary-transfer:true}") boolean binaryTransfer) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (binaryTransfer && bean instanceof HikariDataSource dataSource) {
+					enableBinaryTransfer(dataSource);
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	private static void enableBinaryTransfer(HikariDataSource dataSource) {
+		if (dataSource.getDataSourceProperties().containsKey(BINARY_TRANSFER_ENABLE)) {
+			return;
+		}
+
+		try (Connection connection = DriverManager.getConnection(dataSource.getJdbcUrl(), dataSource.getUsername(), dataSource.getPassword());
+			 Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery(VECTOR_OID_QUERY)) {
+
+			long oid = resultSet.next() ? resultSet.getLong(1) : 0;
+
+			if (oid == 0) {
+				log.warn("[PgVectorConfig] vector 타입이 없어 텍스트 전송을 사용합니다.");
+				return;
+			}
+
+			dataSource.addDataSourceProperty(BINARY_TRANSFER_ENABLE, String.valueOf(oid));
+
+			log.info("[PgVectorConfig] vector 타입 바이너리 전송 사용: oid={}", oid);
+		}
+		catch (SQLException | RuntimeException e) {
+			log.warn("[PgVectorConfig] vector 타입 OID 조회 실패로 텍스트 전송을 사용합니다: error={}", e.getMessage());
+		}
+	}
+}
@@ -1,6 +1,9 @@
 package com.seethrough.api.common.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -12,6 +15,16 @@ public class WebConfig implements WebMvcConfigurer {
 		registry.addMapping("/api/**")
 			.allowedOrigins("https://j12s002.p.ssafy.io", "http://localhost:5173")
 			.allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH")
-			.allowedHeaders("Content-Type");
+			.allowedHeaders("Content-Type", "If-None-Match")
+			.exposedHeaders("ETag");
+	}
+
+	// 경고 목록은 본문 해시로 ETag 를 만들어, 바뀌지 않았으면 304 로 응답
+	@Bean
+	public FilterRegistrationBean<ShallowEtagHeaderFilter> shallowEtagHeaderFilter() {
+		FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+		registration.addUrlPatterns("/api/alerts/*");
+
+		return registration;
 	}
 }
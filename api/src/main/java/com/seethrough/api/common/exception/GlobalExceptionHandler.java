@@ -1,21 +1,36 @@
 package com.seethrough.api.common.exception;
 
+import java.util.Set;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.seethrough.api.ingredient.exception.IngredientNotFoundException;
 import com.seethrough.api.meal.exception.InvalidDailyMealException;
+import com.seethrough.api.meal.exception.MealGenerationJobNotFoundException;
 import com.seethrough.api.meal.exception.MealNotFoundException;
 import com.seethrough.api.member.exception.MemberNotFoundException;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+	private final ObjectMapper objectMapper;
+
 	@ExceptionHandler(MemberNotFoundException.class)
-	public ResponseEntity<ErrorResponse> handleMemberNotFoundException(
+	public ResponseEntity<Object> handleMemberNotFoundException(
 		MemberNotFoundException e,
 		ServletWebRequest request) {
 
@@ -28,7 +43,7 @@ public class GlobalExceptionHandler {
 			path
 		);
 
-		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+		return toResponseEntity(HttpStatus.NOT_FOUND, errorResponse, request);
 	}
 
 	@ExceptionHandler(IngredientNotFoundException.class)
@@ -81,4 +96,84 @@ public class GlobalExceptionHandler {
 
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
 	}
+
+	@ExceptionHandler(MealGenerationJobNotFoundException.class)
+	public ResponseEntity<Object> handleMealGenerationJobNotFoundException(
+		MealGenerationJobNotFoundException e,
+		ServletWebRequest request) {
+
+		String path = request.getRequest().getRequestURI();
+
+		ErrorResponse errorResponse = new ErrorResponse(
+			HttpStatus.NOT_FOUND.value(),
+			HttpStatus.NOT_FOUND.getReasonPhrase(),
+			e.getMessage(),
+			path
+		);
+
+		return toResponseEntity(HttpStatus.NOT_FOUND, errorResponse, request);
+	}
+
+	@ExceptionHandler(InvalidCursorException.class)
+	public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+		InvalidCursorException e,
+		ServletWebRequest request) {
+
+		String path = request.getRequest().getRequestURI();
+
+		ErrorResponse errorResponse = new ErrorResponse(
+			HttpStatus.BAD_REQUEST.value(),
+			HttpStatus.BAD_REQUEST.getReasonPhrase(),
+			e.getMessage(),
+			path
+		);
+
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+	}
+
+	@ExceptionHandler(ConstraintViolationException.class)
+	public ResponseEntity<ErrorResponse> handleConstraintViolationException(
+		ConstraintViolationException e,
+		ServletWebRequest request) {
+
+		String path = request.getRequest().getRequestURI();
+
+		String message = e.getConstraintViolations().stream()
+			.map(ConstraintViolation::getMessage)
+			.findFirst()
+			.orElse(e.getMessage());
+
+		ErrorResponse errorResponse = new ErrorResponse(
+			HttpStatus.BAD_REQUEST.value(),
+			HttpStatus.BAD_REQUEST.getReasonPhrase(),
+			message,
+			path
+		);
+
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+	}
+
+	/**
+	 * SSE(text/event-stream) 로 응답하는 API 는 JSON 으로 오류를 쓸 수 없어 406/500 으로 바뀌므로,
+	 * 같은 상태 코드에 오류 내용을 error 이벤트로 담아 반환합니다.
+	 */
+	private ResponseEntity<Object> toResponseEntity(HttpStatus status, ErrorResponse errorResponse, ServletWebRequest request) {
+		Object producibleMediaTypes = request.getRequest().getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+
+		if (!(producibleMediaTypes instanceof Set<?> mediaTypes) || !mediaTypes.contains(MediaType.TEXT_EVENT_STREAM)) {
+			return ResponseEntity.status(status).body(errorResponse);
+		}
+
+		String data;
+		try {
+			data = objectMapper.writeValueAsString(errorResponse);
+		}
+		catch (JsonProcessingException e) {
+			data = errorResponse.getMessage();
+		}
+
+		return ResponseEntity.status(status)
+			.contentType(MediaType.TEXT_EVENT_STREAM)
+			.body("event: error\ndata: " + data + "\n\n");
+	}
 }
@@ -0,0 +1,12 @@
+package com.seethrough.api.common.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+	public InvalidCursorException(String message) {
+		super(message);
+	}
+
+	public InvalidCursorException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,115 @@
+package com.seethrough.api.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+
+import com.seethrough.api.common.exception.InvalidCursorException;
+
+/**
+ * 키셋 위치(정렬 컬럼 값 + ID)를 클라이언트에 노출할 불투명 커서 문자열로 변환하는 클래스
+ * 값의 타입 정보를 함께 기록하여 디코딩 시 원래의 타입으로 복원합니다.
+ * 커서를 만든 정렬 기준도 함께 기록하여, 다른 정렬 기준으로 요청하면 InvalidCursorException 이 발생합니다.
+ */
+final class CursorCodec {
+
+	private static final String ENTRY_DELIMITER = "&";
+	private static final String PART_DELIMITER = ":";
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private CursorCodec() {
+	}
+
+	static String encode(Map<String, ?> keys, Sort sort) {
+		StringJoiner joiner = new StringJoiner(ENTRY_DELIMITER);
+		joiner.add(encodeText(signatureOf(sort)));
+
+		keys.forEach((key, value) -> joiner.add(key + PART_DELIMITER + typeOf(value) + PART_DELIMITER + encodeText(String.valueOf(value))));
+
+		return encodeText(joiner.toString());
+	}
+
+	static Map<String, Object> decode(String cursor, Sort sort) {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		String signature;
+
+		try {
+			String[] entries = decodeText(cursor).split(ENTRY_DELIMITER);
+			signature = decodeText(entries[0]);
+
+			for (int i = 1; i < entries.length; i++) {
+				String[] parts = entries[i].split(PART_DELIMITER, 3);
+
+				keys.put(parts[0], parse(parts[1], decodeText(parts[2])));
+			}
+		} catch (RuntimeException e) {
+			throw new InvalidCursorException("유효하지 않은 커서입니다.", e);
+		}
+
+		if (keys.isEmpty()) {
+			throw new InvalidCursorException("유효하지 않은 커서입니다.");
+		}
+
+		if (!signature.equals(signatureOf(sort))) {
+			throw new InvalidCursorException("커서를 만든 정렬 기준과 요청한 정렬 기준이 다릅니다.");
+		}
+
+		return keys;
+	}
+
+	private static String signatureOf(Sort sort) {
+		return sort.stream()
+			.map(order -> order.getProperty() + " " + order.getDirection().name())
+			.collect(Collectors.joining(","));
+	}
+
+	private static String typeOf(Object value) {
+		if (value == null)
+			return "N";
+		if (value instanceof LocalDateTime)
+			return "T";
+		if (value instanceof LocalDate)
+			return "D";
+		if (value instanceof UUID)
+			return "U";
+		if (value instanceof Integer)
+			return "I";
+		if (value instanceof Boolean)
+			return "B";
+		if (value instanceof String)
+			return "S";
+
+		throw new IllegalArgumentException("커서로 인코딩할 수 없는 정렬 기준 타입입니다: " + value.getClass().getSimpleName());
+	}
+
+	private static Object parse(String type, String text) {
+		return switch (type) {
+			case "T" -> LocalDateTime.parse(text);
+			case "D" -> LocalDate.parse(text);
+			case "U" -> UUID.fromString(text);
+			case "I" -> Integer.valueOf(text);
+			case "B" -> Boolean.valueOf(text);
+			case "S" -> text;
+			case "N" -> null;
+			default -> throw new IllegalArgumentException("알 수 없는 커서 타입입니다: " + type);
+		};
+	}
+
+	private static String encodeText(String text) {
+		return ENCODER.encodeToString(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String decodeText(String text) {
+		return new String(DECODER.decode(text), StandardCharsets.UTF_8);
+	}
+}
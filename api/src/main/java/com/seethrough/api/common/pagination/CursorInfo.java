@@ -0,0 +1,14 @@
+package com.seethrough.api.common.pagination;
+
+import lombok.Value;
+
+/**
+ * 커서 기반 페이징 결과에 대한 메타데이터를 담는 클래스
+ * 다음 페이지를 조회하기 위한 불투명(opaque) 커서를 포함합니다.
+ */
+@Value
+public class CursorInfo {
+	String nextCursor;      // 다음 페이지 조회용 커서 (마지막 페이지인 경우 null)
+	Integer pageSize;       // 페이지당 데이터 수
+	Boolean hasNext;        // 다음 페이지 존재 여부
+}
@@ -0,0 +1,72 @@
+package com.seethrough.api.common.pagination;
+
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.seethrough.api.common.exception.InvalidCursorException;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 커서(키셋) 기반 페이지네이션 요청 DTO
+ * OFFSET 대신 마지막으로 조회한 행의 (정렬 컬럼, ID) 이후부터 조회하므로
+ * 몇 번째 페이지든 첫 페이지와 동일한 비용으로 조회되며, 동시 입고가 발생해도 페이지가 밀리지 않습니다.
+ * 정렬 기준은 API 마다 정한 sortProperties 로 제한합니다.
+ * NULL 인 키로는 다음 페이지 조건(x > NULL)이 아무 행과도 맞지 않으므로, sortProperties 에는 NOT NULL 컬럼만 넣어야 합니다.
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class CursorRequestDto {
+	public static final int MAX_SIZE = 100;
+
+	String cursor;
+	@Builder.Default
+	@Min(1)
+	@Max(MAX_SIZE)
+	Integer size = 10;
+	@Builder.Default
+	String sortBy = "createdAt";
+	@Builder.Default
+	String sortDirection = "DESC";
+	Set<String> sortProperties;
+
+	/**
+	 * 커서를 Spring Data의 ScrollPosition으로 변환
+	 * 커서가 비어있으면 첫 페이지를 의미하며, 커서의 정렬 기준이 요청과 다르면 InvalidCursorException 이 발생합니다.
+	 */
+	public ScrollPosition toScrollPosition() {
+		if (cursor == null || cursor.isEmpty()) {
+			return ScrollPosition.keyset();
+		}
+
+		return ScrollPosition.forward(CursorCodec.decode(cursor, toSort()));
+	}
+
+	/**
+	 * 정렬 기준으로 변환
+	 * 키셋 조회 시 Spring Data가 식별자(UUIDv7)를 보조 정렬 기준으로 자동 추가하여 순서를 유일하게 만듭니다.
+	 * 허용하지 않은 정렬 기준이나 정렬 방향이면 InvalidCursorException 이 발생합니다.
+	 */
+	public Sort toSort() {
+		if (sortProperties == null || !sortProperties.contains(sortBy)) {
+			throw new InvalidCursorException("커서 조회에서 지원하지 않는 정렬 기준입니다: " + sortBy);
+		}
+
+		Sort.Direction direction = Sort.Direction.fromOptionalString(sortDirection)
+			.orElseThrow(() -> new InvalidCursorException("유효하지 않은 정렬 방향입니다: " + sortDirection));
+
+		return Sort.by(direction, sortBy);
+	}
+
+	public Limit toLimit() {
+		return Limit.of(Math.max(1, Math.min(size, MAX_SIZE)));
+	}
+}
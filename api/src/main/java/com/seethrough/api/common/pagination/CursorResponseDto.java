@@ -0,0 +1,42 @@
+package com.seethrough.api.common.pagination;
+
+import java.util.List;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import lombok.Value;
+
+/**
+ * 커서 기반으로 조회된 데이터와 커서 정보를 함께 반환하기 위한 DTO 클래스
+ *
+ * @param <T> 조회된 데이터의 타입
+ */
+@Value
+public class CursorResponseDto<T> {
+	List<T> content;        // 실제 데이터 목록
+	CursorInfo cursorInfo;  // 커서 메타데이터
+
+	/**
+	 * Spring Data의 Window 객체를 CursorResponseDto로 변환
+	 * 마지막 원소의 키셋 위치를 조회에 사용한 정렬 기준과 함께 다음 페이지 커서로 인코딩합니다.
+	 *
+	 * @param window Spring Data의 Window 객체
+	 * @param sort 조회에 사용한 정렬 기준
+	 * @return 변환된 CursorResponseDto 객체
+	 */
+	public static <T> CursorResponseDto<T> of(Window<T> window, Sort sort) {
+		String nextCursor = null;
+
+		if (window.hasNext() && !window.isEmpty()) {
+			KeysetScrollPosition position = (KeysetScrollPosition)window.positionAt(window.size() - 1);
+			nextCursor = CursorCodec.encode(position.getKeys(), sort);
+		}
+
+		return new CursorResponseDto<>(
+			window.getContent(),
+			new CursorInfo(nextCursor, window.size(), window.hasNext())
+		);
+	}
+}
@@ -0,0 +1,110 @@
+package com.seethrough.api.common.type;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+import org.postgresql.PGResultSetMetaData;
+
+import com.pgvector.PGvector;
+
+/**
+ * pgvector의 VECTOR 컬럼을 primitive float[]로 매핑하는 Hibernate UserType
+ * JSON 텍스트와 List&lt;Float&gt; 박싱을 거치지 않습니다.
+ * PgVectorConfig 가 vector 타입의 바이너리 전송을 켜 두면 pgvector의 send/recv 포맷(차원 수 + float4 배열)으로 주고받으며,
+ * 드라이버는 같은 쿼리가 prepareThreshold 번 실행되어 서버 측 prepared statement 가 된 뒤부터 결과를 바이너리로 받으므로
+ * 읽을 때는 컬럼 포맷을 확인해 텍스트/바이너리를 모두 처리합니다.
+ */
+public class PgVectorType implements UserType<float[]> {
+
+	private static final int BINARY_FORMAT = 1;
+
+	@Override
+	public int getSqlType() {
+		return Types.OTHER;
+	}
+
+	@Override
+	public Class<float[]> returnedClass() {
+		return float[].class;
+	}
+
+	@Override
+	public boolean equals(float[] x, float[] y) {
+		return Arrays.equals(x, y);
+	}
+
+	@Override
+	public int hashCode(float[] x) {
+		return Arrays.hashCode(x);
+	}
+
+	@Override
+	public float[] nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {
+		if (isBinary(rs, position)) {
+			byte[] bytes = rs.getBytes(position);
+			return bytes == null ? null : fromBinary(bytes);
+		}
+
+		String value = rs.getString(position);
+		return value == null ? null : new PGvector(value).toArray();
+	}
+
+	@Override
+	public void nullSafeSet(PreparedStatement st, float[] value, int position, SharedSessionContractImplementor session) throws SQLException {
+		if (value == null) {
+			st.setNull(position, Types.OTHER);
+			return;
+		}
+
+		st.setObject(position, new PGvector(value));
+	}
+
+	private static boolean isBinary(ResultSet rs, int position) throws SQLException {
+		ResultSetMetaData metaData = rs.getMetaData();
+
+		return metaData.isWrapperFor(PGResultSetMetaData.class)
+			&& metaData.unwrap(PGResultSetMetaData.class).getFormat(position) == BINARY_FORMAT;
+	}
+
+	/**
+	 * pgvector vector_send 포맷: int16 차원 수, int16 (미사용), float4 * 차원 수 (빅 엔디언)
+	 */
+	private static float[] fromBinary(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		int dimension = Short.toUnsignedInt(buffer.getShort());
+		buffer.getShort();
+
+		float[] vector = new float[dimension];
+		buffer.asFloatBuffer().get(vector);
+
+		return vector;
+	}
+
+	@Override
+	public float[] deepCopy(float[] value) {
+		return value == null ? null : value.clone();
+	}
+
+	@Override
+	public boolean isMutable() {
+		return true;
+	}
+
+	@Override
+	public Serializable disassemble(float[] value) {
+		return deepCopy(value);
+	}
+
+	@Override
+	public float[] assemble(Serializable cached, Object owner) {
+		return deepCopy((float[])cached);
+	}
+}
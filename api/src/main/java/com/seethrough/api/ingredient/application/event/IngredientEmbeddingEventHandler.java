@@ -0,0 +1,26 @@
+package com.seethrough.api.ingredient.application.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.seethrough.api.ingredient.application.service.EmbeddingBackfillService;
+import com.seethrough.api.ingredient.domain.event.IngredientEmbeddingMissedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientEmbeddingEventHandler {
+
+	private final EmbeddingBackfillService embeddingBackfillService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleEmbedding(IngredientEmbeddingMissedEvent event) {
+		log.debug("[IngredientEmbeddingEventHandler] 임베딩 캐시 미스 식재료: {} 개", event.getIngredientIdList().size());
+
+		embeddingBackfillService.embedIngredientsAsync(event.getIngredientIdList());
+	}
+}
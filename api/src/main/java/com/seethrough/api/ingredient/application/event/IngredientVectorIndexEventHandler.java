@@ -0,0 +1,56 @@
+package com.seethrough.api.ingredient.application.event;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.seethrough.api.ingredient.domain.IngredientEmbedding;
+import com.seethrough.api.ingredient.domain.IngredientEmbeddingRepository;
+import com.seethrough.api.ingredient.domain.event.IngredientEmbeddingUpdatedEvent;
+import com.seethrough.api.ingredient.domain.event.IngredientOutboundEvent;
+import com.seethrough.api.ingredient.infrastructure.index.IngredientVectorIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientVectorIndexEventHandler {
+
+	private final IngredientEmbeddingRepository ingredientEmbeddingRepository;
+	private final IngredientVectorIndex ingredientVectorIndex;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadIndex() {
+		log.info("[IngredientVectorIndexEventHandler] 식재료 임베딩 인덱스 적재 시작");
+
+		Map<UUID, float[]> embeddings = ingredientEmbeddingRepository.findAllWithEmbedding()
+			.stream()
+			.collect(Collectors.toMap(IngredientEmbedding::getIngredientId, IngredientEmbedding::getEmbeddingVector));
+
+		ingredientVectorIndex.putAll(embeddings);
+
+		log.info("[IngredientVectorIndexEventHandler] 식재료 임베딩 인덱스 적재 완료: {} 개의 식재료", ingredientVectorIndex.size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleIndex(IngredientEmbeddingUpdatedEvent event) {
+		log.debug("[IngredientVectorIndexEventHandler] 식재료 임베딩 갱신: {} 개의 식재료", event.getEmbeddings().size());
+
+		ingredientVectorIndex.putAll(event.getEmbeddings());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleIndex(IngredientOutboundEvent event) {
+		log.debug("[IngredientVectorIndexEventHandler] 식재료 출고: {} 개의 식재료", event.getIngredientIdList().size());
+
+		ingredientVectorIndex.removeAll(event.getIngredientIdList());
+	}
+}
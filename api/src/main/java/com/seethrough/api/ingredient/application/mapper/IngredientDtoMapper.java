@@ -5,6 +5,9 @@ import org.springframework.stereotype.Component;
 import com.seethrough.api.ingredient.domain.Ingredient;
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientDetailResponse;
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientListResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.OutBoundCommentResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.OutBoundIngredientCommentResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.SimilarIngredientResponse;
 
 @Component
 public class IngredientDtoMapper {
@@ -19,6 +22,13 @@ public class IngredientDtoMapper {
 			.build();
 	}
 
+	public SimilarIngredientResponse toSimilarResponse(Ingredient ingredient, double similarity) {
+		return SimilarIngredientResponse.builder()
+			.ingredient(toListResponse(ingredient))
+			.similarity(similarity)
+			.build();
+	}
+
 	public IngredientDetailResponse toDetailResponse(Ingredient ingredient) {
 		return IngredientDetailResponse.builder()
 			.ingredientId(ingredient.getIngredientId().toString())
@@ -31,4 +41,13 @@ public class IngredientDtoMapper {
 			.expirationAt(ingredient.getExpirationAt())
 			.build();
 	}
+
+	public OutBoundIngredientCommentResponse toOutboundCommentResponse(Ingredient ingredient, OutBoundCommentResponse comment) {
+		return OutBoundIngredientCommentResponse.builder()
+			.ingredientId(ingredient.getIngredientId().toString())
+			.name(ingredient.getName())
+			.comment(comment.getComment())
+			.isDanger(comment.isDanger())
+			.build();
+	}
 }
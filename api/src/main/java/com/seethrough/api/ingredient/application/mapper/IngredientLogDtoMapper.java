@@ -3,7 +3,9 @@ package com.seethrough.api.ingredient.application.mapper;
 import org.springframework.stereotype.Component;
 
 import com.seethrough.api.ingredient.domain.IngredientLog;
+import com.seethrough.api.ingredient.domain.IngredientLogSimilarity;
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientLogListResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.IngredientLogSimilarityResponse;
 
 @Component
 public class IngredientLogDtoMapper {
@@ -20,4 +22,11 @@ public class IngredientLogDtoMapper {
 			.createdAt(ingredientLog.getCreatedAt())
 			.build();
 	}
+
+	public IngredientLogSimilarityResponse toSimilarityResponse(IngredientLogSimilarity ingredientLogSimilarity) {
+		return IngredientLogSimilarityResponse.builder()
+			.ingredientLog(toListResponse(ingredientLogSimilarity.getIngredientLog()))
+			.similarity(1 - ingredientLogSimilarity.getDistance())
+			.build();
+	}
 }
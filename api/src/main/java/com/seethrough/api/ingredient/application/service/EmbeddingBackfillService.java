@@ -0,0 +1,283 @@
+package com.seethrough.api.ingredient.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seethrough.api.ingredient.domain.EmbeddingBackfillRepository;
+import com.seethrough.api.ingredient.domain.EmbeddingBackfillTarget;
+import com.seethrough.api.ingredient.domain.Ingredient;
+import com.seethrough.api.ingredient.domain.IngredientEmbeddingRepository;
+import com.seethrough.api.ingredient.domain.IngredientLogEmbeddingRepository;
+import com.seethrough.api.ingredient.domain.IngredientRepository;
+import com.seethrough.api.ingredient.domain.event.IngredientEmbeddingUpdatedEvent;
+import com.seethrough.api.ingredient.infrastructure.external.llm.LlmApiIngredientService;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientEmbeddingListRequest;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientEmbeddingRequest;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.response.IngredientEmbeddingResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.EmbeddingBackfillProgressResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 임베딩 벡터가 NULL 로 남은 식재료/입출고 로그를 채우는 백필 작업입니다.
+ * 대상별로 ID 키셋 순서로 조회하여 concurrency 개의 배치를 한 묶음으로 처리하고,
+ * LLM 요청은 트랜잭션 밖에서 보내고, 묶음이 모두 성공하면 벡터와 마지막 ID(체크포인트)를 짧은 트랜잭션 하나로 저장하여
+ * 재시작 후에도 이어서 진행합니다.
+ * LLM 요청은 requests-per-second 로 속도를 제한하며, 작업은 전용 실행기(embeddingBackfillTaskExecutor)에서 진행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmbeddingBackfillService {
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final EmbeddingBackfillRepository embeddingBackfillRepository;
+	private final IngredientRepository ingredientRepository;
+	private final IngredientEmbeddingRepository ingredientEmbeddingRepository;
+	private final IngredientLogEmbeddingRepository ingredientLogEmbeddingRepository;
+	private final IngredientLogEmbeddingBatcher ingredientLogEmbeddingBatcher;
+	private final LlmApiIngredientService llmApiIngredientService;
+	private final ThreadPoolTaskExecutor embeddingTaskExecutor;
+	private final ThreadPoolTaskExecutor embeddingBackfillTaskExecutor;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${embedding.backfill.batch-size:32}")
+	private int batchSize;
+
+	@Value("${embedding.backfill.concurrency:2}")
+	private int concurrency;
+
+	@Value("${embedding.backfill.requests-per-second:1.0}")
+	private double requestsPerSecond;
+
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	private final Map<EmbeddingBackfillTarget, AtomicLong> processedRows = new EnumMap<>(Arrays.stream(EmbeddingBackfillTarget.values())
+		.collect(Collectors.toMap(target -> target, target -> new AtomicLong())));
+
+	private volatile LocalDateTime startedAt;
+	private volatile long lastRequestAt;
+
+	@Scheduled(initialDelayString = "${embedding.backfill.initial-delay-ms:60000}",
+		fixedDelayString = "${embedding.backfill.interval-ms:600000}")
+	public void backfill() {
+		if (!running.compareAndSet(false, true)) {
+			log.info("[EmbeddingBackfillService] 이전 백필 작업이 진행 중이므로 건너뜁니다.");
+			return;
+		}
+
+		// 속도 제한 대기가 공용 스케줄러 스레드를 막지 않도록 전용 실행기에서 진행
+		try {
+			embeddingBackfillTaskExecutor.execute(this::backfillAll);
+		}
+		catch (RejectedExecutionException e) {
+			log.warn("[EmbeddingBackfillService] 백필 실행기 포화로 이번 실행을 건너뜁니다.");
+			running.set(false);
+		}
+	}
+
+	private void backfillAll() {
+		try {
+			startedAt = LocalDateTime.now();
+			processedRows.values().forEach(count -> count.set(0));
+
+			for (EmbeddingBackfillTarget target : EmbeddingBackfillTarget.values()) {
+				backfill(target);
+			}
+		}
+		finally {
+			running.set(false);
+		}
+	}
+
+	public EmbeddingBackfillProgressResponse getProgress() {
+		log.debug("[EmbeddingBackfillService] getProgress 호출");
+
+		LocalDateTime startedAt = this.startedAt;
+		double elapsedSeconds = startedAt == null ? 0 :
+			Math.max(1, Duration.between(startedAt, LocalDateTime.now()).toSeconds());
+
+		List<EmbeddingBackfillProgressResponse.TargetProgress> targets = Arrays.stream(EmbeddingBackfillTarget.values())
+			.map(target -> {
+				long processed = processedRows.get(target).get();
+
+				return EmbeddingBackfillProgressResponse.TargetProgress.builder()
+					.target(target.name())
+					.checkpoint(embeddingBackfillRepository.findCheckpoint(target))
+					.backlog(embeddingBackfillRepository.countWithoutEmbedding(target))
+					.processedRows(processed)
+					.rowsPerSecond(elapsedSeconds == 0 ? 0 : processed / elapsedSeconds)
+					.build();
+			})
+			.toList();
+
+		return EmbeddingBackfillProgressResponse.builder()
+			.running(running.get())
+			.startedAt(startedAt)
+			.targets(targets)
+			.build();
+	}
+
+	private void backfill(EmbeddingBackfillTarget target) {
+		String checkpoint = embeddingBackfillRepository.findCheckpoint(target);
+
+		log.info("[EmbeddingBackfillService] 백필 시작: target={}, checkpoint={}", target, checkpoint);
+
+		while (true) {
+			List<UUID> ids = embeddingBackfillRepository.findIdsWithoutEmbedding(target, checkpoint, batchSize * concurrency);
+
+			if (ids.isEmpty()) {
+				// 끝까지 처리했으므로 다음 실행은 처음부터 다시 확인
+				saveCheckpoint(target, "");
+				log.info("[EmbeddingBackfillService] 백필 완료: target={}, processed={}", target, processedRows.get(target).get());
+				return;
+			}
+
+			String nextCheckpoint = ids.get(ids.size() - 1).toString();
+
+			try {
+				// LLM 요청은 트랜잭션 밖에서 동시에 보내고, 결과가 모두 모이면 벡터와 체크포인트를 한 번에 저장
+				List<CompletableFuture<Map<UUID, float[]>>> futures = new ArrayList<>();
+				for (int from = 0; from < ids.size(); from += batchSize) {
+					List<UUID> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+
+					acquireRatePermit();
+					futures.add(CompletableFuture.supplyAsync(() -> createEmbeddings(target, batch), embeddingTaskExecutor));
+				}
+
+				Map<UUID, float[]> embeddings = new HashMap<>();
+				futures.forEach(future -> embeddings.putAll(future.join()));
+
+				transactionTemplate.executeWithoutResult(status -> {
+					saveEmbeddings(target, embeddings);
+					embeddingBackfillRepository.saveCheckpoint(target, nextCheckpoint);
+				});
+
+				processedRows.get(target).addAndGet(embeddings.size());
+			}
+			catch (Exception e) {
+				// 체크포인트를 이동하지 않고 중단하여 다음 실행에서 같은 위치부터 재시도
+				log.warn("[EmbeddingBackfillService] 백필 중단: target={}, checkpoint={}, error={}", target, checkpoint, e.getMessage());
+				return;
+			}
+
+			checkpoint = nextCheckpoint;
+		}
+	}
+
+	/**
+	 * 입고 직후 캐시 미스로 벡터가 비어 있는 식재료를 바로 채웁니다.
+	 * 실행기가 포화이거나 실패하면 벡터는 NULL 로 남고, 다음 백필 실행에서 채워집니다.
+	 */
+	public void embedIngredientsAsync(List<UUID> ingredientIdList) {
+		try {
+			embeddingTaskExecutor.execute(() -> {
+				try {
+					int saved = embedIngredients(ingredientIdList);
+
+					log.debug("[EmbeddingBackfillService] 입고 식재료 임베딩 완료: {} / {} 개", saved, ingredientIdList.size());
+				}
+				catch (Exception e) {
+					log.warn("[EmbeddingBackfillService] 입고 식재료 임베딩 실패, 백필 대상으로 남깁니다: {} 개, error={}",
+						ingredientIdList.size(), e.getMessage());
+				}
+			});
+		}
+		catch (RejectedExecutionException e) {
+			log.warn("[EmbeddingBackfillService] 실행기 포화로 입고 식재료 임베딩을 백필에 맡깁니다: {} 개", ingredientIdList.size());
+		}
+	}
+
+	private Map<UUID, float[]> createEmbeddings(EmbeddingBackfillTarget target, List<UUID> idList) {
+		return switch (target) {
+			case INGREDIENT -> createIngredientEmbeddings(idList);
+			case INGREDIENT_LOG -> ingredientLogEmbeddingBatcher.createEmbeddings(idList);
+		};
+	}
+
+	private void saveEmbeddings(EmbeddingBackfillTarget target, Map<UUID, float[]> embeddings) {
+		switch (target) {
+			case INGREDIENT -> saveIngredientEmbeddings(embeddings);
+			case INGREDIENT_LOG -> ingredientLogEmbeddingRepository.updateEmbeddingVectors(embeddings);
+		}
+	}
+
+	private int embedIngredients(List<UUID> ingredientIdList) {
+		Map<UUID, float[]> embeddings = createIngredientEmbeddings(ingredientIdList);
+
+		if (embeddings.isEmpty()) {
+			return 0;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> saveIngredientEmbeddings(embeddings));
+
+		return embeddings.size();
+	}
+
+	private Map<UUID, float[]> createIngredientEmbeddings(List<UUID> ingredientIdList) {
+		List<Ingredient> ingredients = ingredientRepository.findIngredientsByIngredientId(ingredientIdList);
+
+		if (ingredients.isEmpty()) {
+			return Map.of();
+		}
+
+		IngredientEmbeddingListRequest request = IngredientEmbeddingListRequest.from(ingredients.stream()
+			.map(ingredient -> IngredientEmbeddingRequest.from(ingredient.getIngredientId(), ingredient.getName()))
+			.toList());
+
+		return llmApiIngredientService.createIngredientEmbedding(request)
+			.getEmbeddings()
+			.stream()
+			.collect(Collectors.toMap(
+				response -> UUID.fromString(response.getIngredientId()),
+				IngredientEmbeddingResponse::getEmbedding)
+			);
+	}
+
+	private void saveIngredientEmbeddings(Map<UUID, float[]> embeddings) {
+		ingredientEmbeddingRepository.updateEmbeddingVectors(embeddings);
+
+		applicationEventPublisher.publishEvent(IngredientEmbeddingUpdatedEvent.builder()
+			.embeddings(embeddings)
+			.build());
+	}
+
+	private void saveCheckpoint(EmbeddingBackfillTarget target, String lastId) {
+		transactionTemplate.executeWithoutResult(status -> embeddingBackfillRepository.saveCheckpoint(target, lastId));
+	}
+
+	private synchronized void acquireRatePermit() {
+		long intervalMillis = (long)(1000 / requestsPerSecond);
+		long waitMillis = lastRequestAt + intervalMillis - System.currentTimeMillis();
+
+		if (waitMillis > 0) {
+			try {
+				Thread.sleep(waitMillis);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		lastRequestAt = System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,181 @@
+package com.seethrough.api.ingredient.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seethrough.api.ingredient.domain.IngredientLog;
+import com.seethrough.api.ingredient.domain.IngredientLogEmbeddingRepository;
+import com.seethrough.api.ingredient.domain.IngredientLogRepository;
+import com.seethrough.api.ingredient.infrastructure.external.llm.LlmApiIngredientLogService;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientLogEmbeddingListRequest;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientLogEmbeddingRequest;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.response.IngredientLogEmbeddingResponse;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입출고 로그 임베딩 요청을 모아서 처리하는 배처입니다.
+ * 트랜잭션마다 LLM 을 호출하지 않고, 대기 중인 로그 ID 를 batch-size 만큼 모이거나
+ * flush-interval-ms 가 지나면 한 번에 요청하며, 동시에 진행되는 요청 수는 max-in-flight 로 제한합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientLogEmbeddingBatcher {
+
+	private final IngredientLogRepository ingredientLogRepository;
+	private final IngredientLogEmbeddingRepository ingredientLogEmbeddingRepository;
+	private final LlmApiIngredientLogService llmApiIngredientLogService;
+	private final ThreadPoolTaskExecutor embeddingTaskExecutor;
+	private final TransactionTemplate transactionTemplate;
+
+	private final Queue<UUID> pendingQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	@Value("${embedding.batch.size:32}")
+	private int batchSize;
+
+	@Value("${embedding.batch.max-in-flight:2}")
+	private int maxInFlight;
+
+	private Semaphore inFlight;
+
+	@PostConstruct
+	void init() {
+		inFlight = new Semaphore(maxInFlight);
+	}
+
+	public void enqueue(List<UUID> ingredientLogIdList) {
+		log.debug("[IngredientLogEmbeddingBatcher] enqueue 호출: {} 개의 로그", ingredientLogIdList.size());
+
+		pendingQueue.addAll(ingredientLogIdList);
+
+		if (pendingCount.addAndGet(ingredientLogIdList.size()) >= batchSize) {
+			flush();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${embedding.batch.flush-interval-ms:500}")
+	public void flush() {
+		while (pendingCount.get() > 0 && inFlight.tryAcquire()) {
+			List<UUID> batch = drain();
+
+			if (batch.isEmpty()) {
+				inFlight.release();
+				return;
+			}
+
+			try {
+				embeddingTaskExecutor.execute(() -> {
+					try {
+						process(batch);
+					}
+					finally {
+						inFlight.release();
+					}
+
+					if (pendingCount.get() >= batchSize) {
+						flush();
+					}
+				});
+			}
+			catch (RejectedExecutionException e) {
+				log.warn("[IngredientLogEmbeddingBatcher] 실행기 포화로 배치를 다시 대기열에 넣습니다: {} 개의 로그", batch.size());
+
+				pendingQueue.addAll(batch);
+				pendingCount.addAndGet(batch.size());
+				inFlight.release();
+				return;
+			}
+		}
+	}
+
+	private List<UUID> drain() {
+		List<UUID> batch = new ArrayList<>(batchSize);
+
+		UUID ingredientLogId;
+		while (batch.size() < batchSize && (ingredientLogId = pendingQueue.poll()) != null) {
+			batch.add(ingredientLogId);
+		}
+
+		pendingCount.addAndGet(-batch.size());
+
+		return batch;
+	}
+
+	/**
+	 * LLM 요청만 수행하고 저장하지 않습니다. 트랜잭션 밖에서 호출합니다.
+	 */
+	public Map<UUID, float[]> createEmbeddings(List<UUID> ingredientLogIdList) {
+		List<IngredientLog> ingredientLogs = ingredientLogRepository.findAllById(ingredientLogIdList);
+
+		if (ingredientLogs.isEmpty()) {
+			return Map.of();
+		}
+
+		return createEmbeddingForIngredientLogs(ingredientLogs);
+	}
+
+	private int embed(List<UUID> ingredientLogIdList) {
+		Map<UUID, float[]> embeddings = createEmbeddings(ingredientLogIdList);
+
+		if (embeddings.isEmpty()) {
+			return 0;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> ingredientLogEmbeddingRepository.updateEmbeddingVectors(embeddings));
+
+		return embeddings.size();
+	}
+
+	private void process(List<UUID> ingredientLogIdList) {
+		log.debug("[IngredientLogEmbeddingBatcher] 배치 처리 시작: {} 개의 로그", ingredientLogIdList.size());
+
+		try {
+			int saved = embed(ingredientLogIdList);
+
+			log.debug("[IngredientLogEmbeddingBatcher] 배치 처리 완료: {} 개의 임베딩 저장", saved);
+		}
+		catch (Exception e) {
+			// 실패한 로그는 embedding_vector 가 NULL 로 남으며, EmbeddingBackfillService 가 다시 채웁니다.
+			log.error("[IngredientLogEmbeddingBatcher] 배치 처리 실패: {} 개의 로그", ingredientLogIdList.size(), e);
+		}
+	}
+
+	private Map<UUID, float[]> createEmbeddingForIngredientLogs(List<IngredientLog> ingredientLogs) {
+		IngredientLogEmbeddingListRequest request = IngredientLogEmbeddingListRequest.builder()
+			.ingredientLogs(ingredientLogs.stream()
+				.map(ingredientLog -> IngredientLogEmbeddingRequest.builder()
+					.ingredientLogId(ingredientLog.getIngredientLogId().toString())
+					.memberId(ingredientLog.getMemberId().toString())
+					.food(ingredientLog.getIngredientName())
+					.date(ingredientLog.getCreatedAt())
+					.build())
+				.toList())
+			.build();
+
+		return llmApiIngredientLogService.createIngredientLogEmbedding(request)
+			.getEmbeddings()
+			.stream()
+			.collect(Collectors.toMap(
+				response -> UUID.fromString(response.getIngredientLogId()),
+				IngredientLogEmbeddingResponse::getEmbedding)
+			);
+	}
+}
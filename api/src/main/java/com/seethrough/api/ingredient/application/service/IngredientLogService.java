@@ -2,12 +2,13 @@ package com.seethrough.api.ingredient.application.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -16,6 +17,8 @@ import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.github.f4b6a3.uuid.UuidCreator;
+import com.seethrough.api.common.pagination.CursorRequestDto;
+import com.seethrough.api.common.pagination.CursorResponseDto;
 import com.seethrough.api.common.pagination.SliceRequestDto;
 import com.seethrough.api.common.pagination.SliceResponseDto;
 import com.seethrough.api.ingredient.application.mapper.IngredientLogDtoMapper;
@@ -23,14 +26,20 @@ import com.seethrough.api.ingredient.domain.Ingredient;
 import com.seethrough.api.ingredient.domain.IngredientLog;
 import com.seethrough.api.ingredient.domain.IngredientLogFactory;
 import com.seethrough.api.ingredient.domain.IngredientLogRepository;
+import com.seethrough.api.ingredient.domain.IngredientLogSimilarity;
 import com.seethrough.api.ingredient.domain.MovementType;
-import com.seethrough.api.ingredient.infrastructure.external.llm.LlmApiIngredientLogService;
-import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientLogEmbeddingListRequest;
-import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientLogEmbeddingRequest;
-import com.seethrough.api.ingredient.infrastructure.external.llm.dto.response.IngredientLogEmbeddingResponse;
+import com.seethrough.api.ingredient.infrastructure.external.llm.LlmApiIngredientService;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientEmbeddingListRequest;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientEmbeddingRequest;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.response.IngredientEmbeddingResponse;
+import com.seethrough.api.ingredient.presentation.dto.request.IngredientLogSimilarityRequest;
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientLogListResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.IngredientLogSimilarityResponse;
 import com.seethrough.api.member.application.service.MemberService;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,10 +49,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class IngredientLogService {
 
-	private final ApplicationContext applicationContext;
+	// 커서 정렬 기준은 NOT NULL 이고 커서로 인코딩할 수 있는 컬럼만 허용
+	private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "ingredientName");
+
 	private final IngredientLogRepository ingredientLogRepository;
 	private final IngredientLogDtoMapper ingredientLogDtoMapper;
-	private final LlmApiIngredientLogService llmApiIngredientLogService;
+	private final IngredientLogEmbeddingBatcher ingredientLogEmbeddingBatcher;
+	private final LlmApiIngredientService llmApiIngredientService;
 	private final MemberService memberService;
 
 	public SliceResponseDto<IngredientLogListResponse> getIngredientLogList(
@@ -68,6 +80,82 @@ public class IngredientLogService {
 		return SliceResponseDto.of(ingredientLogs.map(ingredientLogDtoMapper::toListResponse));
 	}
 
+	public CursorResponseDto<IngredientLogListResponse> getIngredientLogListByCursor(
+		String memberId, String cursor, Integer size, String sortBy, String sortDirection
+	) {
+		log.debug("[Service] getIngredientLogListByCursor 호출");
+
+		UUID memberIdObj = null;
+		if (memberId != null && !memberId.isEmpty()) {
+			memberIdObj = memberService.checkMemberExists(memberId);
+		}
+
+		CursorRequestDto cursorRequestDto = CursorRequestDto.builder()
+			.cursor(cursor)
+			.size(size)
+			.sortBy(sortBy)
+			.sortDirection(sortDirection)
+			.sortProperties(CURSOR_SORT_PROPERTIES)
+			.build();
+
+		Window<IngredientLog> ingredientLogs = ingredientLogRepository.findIngredientLogs(
+			memberIdObj, cursorRequestDto.toScrollPosition(), cursorRequestDto.toSort(), cursorRequestDto.toLimit());
+
+		return CursorResponseDto.of(ingredientLogs.map(ingredientLogDtoMapper::toListResponse), cursorRequestDto.toSort());
+	}
+
+	/**
+	 * 응답을 보내기 전에 호출하여 구성원을 확인하고 검색할 임베딩 벡터를 준비합니다.
+	 * 이름으로 검색하는 경우 LLM 임베딩 요청이 있으므로 트랜잭션 밖에서 실행합니다.
+	 *
+	 * @return 임베딩 벡터를 만들지 못한 경우 null
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public SimilarIngredientLogQuery prepareSimilarIngredientLogQuery(IngredientLogSimilarityRequest request) {
+		log.debug("[Service] prepareSimilarIngredientLogQuery 호출");
+
+		UUID memberIdObj = null;
+		if (request.getMemberId() != null && !request.getMemberId().isEmpty()) {
+			memberIdObj = memberService.checkMemberExists(request.getMemberId());
+		}
+
+		float[] embeddingVector = request.getEmbedding() != null ?
+			request.getEmbedding() :
+			createEmbeddingForName(request.getName());
+
+		if (embeddingVector == null) {
+			return null;
+		}
+
+		return new SimilarIngredientLogQuery(embeddingVector, memberIdObj, request.getK(), request.getEfSearch());
+	}
+
+	/**
+	 * 키셋/HNSW 조회만 읽기 전용 트랜잭션 안에서 수행하며, 결과는 조회되는 대로 consumer 에 넘깁니다.
+	 */
+	public void searchSimilarIngredientLogs(SimilarIngredientLogQuery query, Consumer<IngredientLogSimilarityResponse> consumer) {
+		log.debug("[Service] searchSimilarIngredientLogs 호출");
+
+		try (Stream<IngredientLogSimilarity> similarities = ingredientLogRepository.findSimilarIngredientLogs(
+			query.getEmbeddingVector(), query.getMemberId(), query.getK(), query.getEfSearch())) {
+			similarities
+				.map(ingredientLogDtoMapper::toSimilarityResponse)
+				.forEach(consumer);
+		}
+	}
+
+	private float[] createEmbeddingForName(String name) {
+		UUID queryId = UuidCreator.getTimeOrderedEpoch();
+
+		return llmApiIngredientService.createIngredientEmbedding(
+				IngredientEmbeddingListRequest.from(List.of(IngredientEmbeddingRequest.from(queryId, name))))
+			.getEmbeddings()
+			.stream()
+			.findFirst()
+			.map(IngredientEmbeddingResponse::getEmbedding)
+			.orElse(null);
+	}
+
 	@Async
 	@Transactional
 	protected void saveInboundLog(List<Ingredient> ingredients) {
@@ -92,8 +180,7 @@ public class IngredientLogService {
 		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
 			@Override
 			public void afterCommit() {
-				IngredientLogService proxy = applicationContext.getBean(IngredientLogService.class);
-				proxy.setEmbeddingVectorsAsync(ingredientLogIdList);
+				ingredientLogEmbeddingBatcher.enqueue(ingredientLogIdList);
 			}
 		});
 	}
@@ -124,44 +211,17 @@ public class IngredientLogService {
 		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
 			@Override
 			public void afterCommit() {
-				IngredientLogService proxy = applicationContext.getBean(IngredientLogService.class);
-				proxy.setEmbeddingVectorsAsync(ingredientLogIdList);
+				ingredientLogEmbeddingBatcher.enqueue(ingredientLogIdList);
 			}
 		});
 	}
 
-	@Async
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	protected void setEmbeddingVectorsAsync(List<UUID> ingredientLogIdList) {
-		log.debug("[IngredientLogService] setEmbeddingVectorsAsync 호출");
-
-		List<IngredientLog> ingredientLogs = ingredientLogRepository.findAllById(ingredientLogIdList);
-
-		Map<UUID, List<Float>> embeddings = createEmbeddingForIngredientLogs(ingredientLogs);
-
-		ingredientLogs.stream()
-			.filter(ingredientLog -> embeddings.containsKey(ingredientLog.getIngredientLogId()))
-			.forEach(ingredientLog -> ingredientLog.setEmbeddingVector(embeddings.get(ingredientLog.getIngredientLogId())));
-	}
-
-	private Map<UUID, List<Float>> createEmbeddingForIngredientLogs(List<IngredientLog> ingredientLogs) {
-		IngredientLogEmbeddingListRequest request = IngredientLogEmbeddingListRequest.builder()
-			.ingredientLogs(ingredientLogs.stream()
-				.map(ingredientLog -> IngredientLogEmbeddingRequest.builder()
-					.ingredientLogId(ingredientLog.getIngredientLogId().toString())
-					.memberId(ingredientLog.getMemberId().toString())
-					.food(ingredientLog.getIngredientName())
-					.date(ingredientLog.getCreatedAt())
-					.build())
-				.toList())
-			.build();
-
-		return llmApiIngredientLogService.createIngredientLogEmbedding(request)
-			.getEmbeddings()
-			.stream()
-			.collect(Collectors.toMap(
-				response -> UUID.fromString(response.getIngredientLogId()),
-				IngredientLogEmbeddingResponse::getEmbedding)
-			);
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class SimilarIngredientLogQuery {
+		private final float[] embeddingVector;
+		private final UUID memberId;
+		private final int k;
+		private final Integer efSearch;
 	}
 }
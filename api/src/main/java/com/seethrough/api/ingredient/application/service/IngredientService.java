@@ -1,9 +1,13 @@
 package com.seethrough.api.ingredient.application.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.seethrough.api.fcm.application.service.FCMService;
@@ -11,20 +15,31 @@ import com.seethrough.api.member.domain.Member;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.seethrough.api.alert.application.service.AlertService;
 import com.seethrough.api.alert.domain.event.CreateAlertByIngredientEvent;
+import com.seethrough.api.common.pagination.CursorRequestDto;
+import com.seethrough.api.common.pagination.CursorResponseDto;
 import com.seethrough.api.common.pagination.SliceRequestDto;
 import com.seethrough.api.common.pagination.SliceResponseDto;
 import com.seethrough.api.ingredient.application.mapper.IngredientDtoMapper;
 import com.seethrough.api.ingredient.domain.Ingredient;
+import com.seethrough.api.ingredient.domain.IngredientEmbeddingRepository;
 import com.seethrough.api.ingredient.domain.IngredientFactory;
+import com.seethrough.api.ingredient.domain.IngredientPreferenceRepository;
 import com.seethrough.api.ingredient.domain.IngredientRepository;
+import com.seethrough.api.ingredient.domain.event.IngredientEmbeddingMissedEvent;
+import com.seethrough.api.ingredient.domain.event.IngredientEmbeddingUpdatedEvent;
+import com.seethrough.api.ingredient.domain.event.IngredientOutboundEvent;
 import com.seethrough.api.ingredient.exception.IngredientNotFoundException;
 import com.seethrough.api.ingredient.infrastructure.external.llm.LlmApiIngredientService;
+import com.seethrough.api.ingredient.infrastructure.index.IngredientVectorIndex;
 import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientEmbeddingListRequest;
 import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientEmbeddingRequest;
 import com.seethrough.api.ingredient.infrastructure.external.llm.dto.response.IngredientEmbeddingResponse;
@@ -33,10 +48,14 @@ import com.seethrough.api.ingredient.presentation.dto.request.OutboundIngredient
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientDetailResponse;
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientListResponse;
 import com.seethrough.api.ingredient.presentation.dto.response.OutBoundCommentResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.OutBoundIngredientCommentResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.SimilarIngredientResponse;
 import com.seethrough.api.member.application.service.MemberService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
@@ -44,17 +63,30 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class IngredientService {
 
+	// 커서 정렬 기준은 NOT NULL 컬럼만 허용 (expirationAt 은 NULL 일 수 있음)
+	private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("inboundAt", "name");
+
 	@Value("${alarm.uuid}")
 	private String alarmUUID;
 
+	@Value("${ingredient.outbound.comment-concurrency:4}")
+	private int outboundCommentConcurrency;
+
+	@Value("${ingredient.outbound.comment-timeout-seconds:20}")
+	private long outboundCommentTimeoutSeconds;
+
 	private final ApplicationEventPublisher applicationEventPublisher;
 	private final IngredientRepository ingredientRepository;
+	private final IngredientEmbeddingRepository ingredientEmbeddingRepository;
+	private final IngredientPreferenceRepository ingredientPreferenceRepository;
 	private final IngredientDtoMapper ingredientDtoMapper;
 	private final MemberService memberService;
 	private final FCMService fcmService;
 	private final IngredientLogService ingredientLogService;
 	private final AlertService alertService;
 	private final LlmApiIngredientService llmApiIngredientService;
+	private final IngredientVectorIndex ingredientVectorIndex;
+	private final TransactionTemplate transactionTemplate;
 
 	public SliceResponseDto<IngredientListResponse> getIngredientList(
 		String memberId, Integer page, Integer size, String sortBy, String sortDirection
@@ -80,6 +112,25 @@ public class IngredientService {
 		return SliceResponseDto.of(ingredients.map(ingredientDtoMapper::toListResponse));
 	}
 
+	public CursorResponseDto<IngredientListResponse> getIngredientListByCursor(
+		String cursor, Integer size, String sortBy, String sortDirection
+	) {
+		log.debug("[Service] getIngredientListByCursor 호출");
+
+		CursorRequestDto cursorRequestDto = CursorRequestDto.builder()
+			.cursor(cursor)
+			.size(size)
+			.sortBy(sortBy)
+			.sortDirection(sortDirection)
+			.sortProperties(CURSOR_SORT_PROPERTIES)
+			.build();
+
+		Window<Ingredient> ingredients = ingredientRepository.findIngredients(
+			cursorRequestDto.toScrollPosition(), cursorRequestDto.toSort(), cursorRequestDto.toLimit());
+
+		return CursorResponseDto.of(ingredients.map(ingredientDtoMapper::toListResponse), cursorRequestDto.toSort());
+	}
+
 	public IngredientDetailResponse getIngredientDetail(String ingredientId) {
 		log.debug("[Service] getIngredientDetail 호출");
 
@@ -90,6 +141,32 @@ public class IngredientService {
 		return ingredientDtoMapper.toDetailResponse(ingredient);
 	}
 
+	public List<SimilarIngredientResponse> getSimilarIngredients(String ingredientId, Integer k) {
+		log.debug("[Service] getSimilarIngredients 호출");
+
+		UUID ingredientIdObj = UUID.fromString(ingredientId);
+
+		float[] embeddingVector = ingredientVectorIndex.get(ingredientIdObj);
+
+		if (embeddingVector == null) {
+			findIngredient(ingredientIdObj);
+			return List.of();
+		}
+
+		List<IngredientVectorIndex.Neighbor> neighbors = ingredientVectorIndex.search(embeddingVector, k, ingredientIdObj);
+
+		Map<UUID, Ingredient> ingredients = ingredientRepository.findIngredientsByIngredientId(neighbors.stream()
+				.map(IngredientVectorIndex.Neighbor::getIngredientId)
+				.toList())
+			.stream()
+			.collect(Collectors.toMap(Ingredient::getIngredientId, Function.identity()));
+
+		return neighbors.stream()
+			.filter(neighbor -> ingredients.containsKey(neighbor.getIngredientId()))
+			.map(neighbor -> ingredientDtoMapper.toSimilarResponse(ingredients.get(neighbor.getIngredientId()), neighbor.getSimilarity()))
+			.toList();
+	}
+
 	private Ingredient findIngredient(UUID ingredientId) {
 		return ingredientRepository.findByIngredientId(ingredientId)
 			.orElseThrow(() ->
@@ -116,14 +193,31 @@ public class IngredientService {
 				obj.getExpirationAt()))
 			.toList();
 
-		// TODO: 임베딩벡터 수정하기
-		// Map<UUID, List<Float>> embeddings = createEmbeddingForIngredients(ingredients);
+		ingredientRepository.saveAll(ingredients);
+
+		ingredientPreferenceRepository.saveAllByIngredientIds(ingredients.stream()
+			.map(Ingredient::getIngredientId)
+			.toList());
 
-		// ingredients.stream()
-		// 	.filter(ingredient -> embeddings.containsKey(ingredient.getIngredientId()))
-		// 	.forEach(ingredient -> ingredient.setEmbeddingVector(embeddings.get(ingredient.getIngredientId())));
+		// 이름 임베딩 캐시에 있는 벡터만 바로 저장하고, 나머지는 커밋 후 LLM 에 요청
+		Map<UUID, float[]> embeddings = findCachedEmbeddingForIngredients(ingredients);
 
-		ingredientRepository.saveAll(ingredients);
+		ingredientEmbeddingRepository.updateEmbeddingVectors(embeddings);
+
+		applicationEventPublisher.publishEvent(IngredientEmbeddingUpdatedEvent.builder()
+			.embeddings(embeddings)
+			.build());
+
+		List<UUID> embeddingMisses = ingredients.stream()
+			.map(Ingredient::getIngredientId)
+			.filter(ingredientId -> !embeddings.containsKey(ingredientId))
+			.toList();
+
+		if (!embeddingMisses.isEmpty()) {
+			applicationEventPublisher.publishEvent(IngredientEmbeddingMissedEvent.builder()
+				.ingredientIdList(embeddingMisses)
+				.build());
+		}
 
 		ingredientLogService.saveInboundLog(ingredients);
 
@@ -132,7 +226,11 @@ public class IngredientService {
 			.build());
 	}
 
-	@Transactional
+	/**
+	 * 코멘트 LLM 요청은 트랜잭션 밖에서 식재료별 comment-timeout-seconds 로 제한하여 보내고,
+	 * 식재료 삭제와 출고 로그 저장만 짧은 쓰기 트랜잭션에서 수행합니다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public OutBoundCommentResponse outboundIngredients(OutboundIngredientsRequest request) {
 		log.debug("[Service] outboundIngredients 호출");
 
@@ -153,39 +251,92 @@ public class IngredientService {
 			fcmService.sendOutMonitorNotification(member.getName(), ingredientString);
 		}
 
-		OutBoundCommentResponse response = null;
-		if (ingredients.size() == 1) {
-			response = alertService.getAlert(member.getMemberId(), ingredients.get(0).getIngredientId())
-				.map(alert -> OutBoundCommentResponse.builder()
-					.comment(alert.getComment())
-					.isDanger(alert.isDanger())
-					.build())
-				.orElseGet(() -> llmApiIngredientService.createComment(member.getMemberId(), ingredients.get(0).getIngredientId()));
-		}
+		OutBoundCommentResponse response = ingredients.isEmpty() ? null : createOutboundComment(member.getMemberId(), ingredients);
 
 		// TODO: 지정된 사용자만 출고했을때 코멘트 알림을 받도록 설정
-		if (request.getMemberId().equals(alarmUUID)){
+		if (request.getMemberId().equals(alarmUUID) && response != null && response.getComment() != null){
 			fcmService.sendRecommendCommentNotification(member.getName(), response.getComment());
 		}
 
-		ingredientRepository.deleteAll(ingredients);
+		transactionTemplate.executeWithoutResult(status -> {
+			ingredientRepository.deleteAll(ingredients);
+
+			ingredientLogService.saveOutboundLog(member.getMemberId(), ingredients);
 
-		ingredientLogService.saveOutboundLog(member.getMemberId(), ingredients);
+			applicationEventPublisher.publishEvent(IngredientOutboundEvent.builder()
+				.ingredientIdList(ingredientIdList)
+				.build());
+		});
 
 		return response;
 	}
 
-	private Map<UUID, List<Float>> createEmbeddingForIngredients(List<Ingredient> ingredients) {
-		IngredientEmbeddingListRequest request = IngredientEmbeddingListRequest.builder()
-			.ingredients(ingredients.stream()
-				.map(ingredient -> IngredientEmbeddingRequest.builder()
-					.ingredientId(ingredient.getIngredientId().toString())
-					.name(ingredient.getName())
-					.build())
-				.toList())
+	private OutBoundCommentResponse createOutboundComment(UUID memberId, List<Ingredient> ingredients) {
+		List<UUID> ingredientIdList = ingredients.stream()
+			.map(Ingredient::getIngredientId)
+			.toList();
+
+		Map<UUID, OutBoundCommentResponse> comments = new HashMap<>();
+		alertService.getAlerts(memberId, ingredientIdList)
+			.forEach((ingredientId, alert) -> comments.put(ingredientId, OutBoundCommentResponse.builder()
+				.comment(alert.getComment())
+				.isDanger(alert.isDanger())
+				.build()));
+
+		List<Ingredient> misses = ingredients.stream()
+			.filter(ingredient -> !comments.containsKey(ingredient.getIngredientId()))
+			.toList();
+
+		// 경고가 없는 식재료만 LLM 에 최대 concurrency 개씩 동시에 요청하고, 실패한 식재료는 코멘트 없이 출고
+		if (!misses.isEmpty()) {
+			Map<UUID, OutBoundCommentResponse> generated = Flux.fromIterable(misses)
+				.flatMap(ingredient -> llmApiIngredientService.createComment(memberId, ingredient.getIngredientId())
+						.timeout(Duration.ofSeconds(outboundCommentTimeoutSeconds))
+						.map(comment -> Map.entry(ingredient.getIngredientId(), comment))
+						.onErrorResume(e -> {
+							log.warn("[Service] 출고 코멘트 생성 실패: ingredientId={}, error={}", ingredient.getIngredientId(), e.getMessage());
+							return Mono.empty();
+						}),
+					outboundCommentConcurrency)
+				.collectMap(Map.Entry::getKey, Map.Entry::getValue)
+				.block();
+
+			if (generated != null) {
+				comments.putAll(generated);
+			}
+		}
+
+		log.debug("[Service] 출고 코멘트: 경고 조회 {} 개, LLM 요청 {} 개, 코멘트 {} / {} 개",
+			ingredients.size() - misses.size(), misses.size(), comments.size(), ingredients.size());
+
+		List<OutBoundIngredientCommentResponse> commentList = ingredients.stream()
+			.filter(ingredient -> comments.containsKey(ingredient.getIngredientId()))
+			.map(ingredient -> ingredientDtoMapper.toOutboundCommentResponse(ingredient, comments.get(ingredient.getIngredientId())))
+			.toList();
+
+		if (commentList.isEmpty()) {
+			return null;
+		}
+
+		// 대표 코멘트는 위험한 식재료를 우선
+		OutBoundIngredientCommentResponse representative = commentList.stream()
+			.filter(OutBoundIngredientCommentResponse::isDanger)
+			.findFirst()
+			.orElse(commentList.get(0));
+
+		return OutBoundCommentResponse.builder()
+			.comment(representative.getComment())
+			.isDanger(representative.isDanger())
+			.comments(commentList)
 			.build();
+	}
+
+	private Map<UUID, float[]> findCachedEmbeddingForIngredients(List<Ingredient> ingredients) {
+		IngredientEmbeddingListRequest request = IngredientEmbeddingListRequest.from(ingredients.stream()
+			.map(ingredient -> IngredientEmbeddingRequest.from(ingredient.getIngredientId(), ingredient.getName()))
+			.toList());
 
-		return llmApiIngredientService.createIngredientEmbedding(request)
+		return llmApiIngredientService.findCachedIngredientEmbedding(request)
 			.getEmbeddings()
 			.stream()
 			.collect(Collectors.toMap(
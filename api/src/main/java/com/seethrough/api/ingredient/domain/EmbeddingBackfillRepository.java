@@ -0,0 +1,15 @@
+package com.seethrough.api.ingredient.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface EmbeddingBackfillRepository {
+
+	List<UUID> findIdsWithoutEmbedding(EmbeddingBackfillTarget target, String afterId, int limit);
+
+	long countWithoutEmbedding(EmbeddingBackfillTarget target);
+
+	String findCheckpoint(EmbeddingBackfillTarget target);
+
+	void saveCheckpoint(EmbeddingBackfillTarget target, String lastId);
+}
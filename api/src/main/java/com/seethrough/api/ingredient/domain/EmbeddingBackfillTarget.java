@@ -0,0 +1,14 @@
+package com.seethrough.api.ingredient.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EmbeddingBackfillTarget {
+	INGREDIENT("ingredients", "ingredient_id"),
+	INGREDIENT_LOG("ingredient_logs", "ingredient_log_id");
+
+	private final String tableName;
+	private final String idColumn;
+}
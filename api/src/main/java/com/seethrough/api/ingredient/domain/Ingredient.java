@@ -5,13 +5,11 @@ import java.util.List;
 import java.util.UUID;
 
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.Type;
 import org.hibernate.type.SqlTypes;
 
 import com.seethrough.api.alert.domain.Alert;
 import com.seethrough.api.member.domain.Member;
 
-import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -26,7 +24,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 
 @Entity
@@ -64,12 +61,6 @@ public class Ingredient {
 	@Column(name = "expiration_at", columnDefinition = "TIMESTAMP")
 	private LocalDateTime expirationAt;
 
-	@Setter
-	@Column(name = "embedding_vector", columnDefinition = "VECTOR(1536)")
-	@Type(JsonType.class)
-	@ToString.Exclude
-	private List<Float> embeddingVector;
-
 	@OneToMany(mappedBy = "ingredient", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
 	@ToString.Exclude
 	private List<Alert> alerts;
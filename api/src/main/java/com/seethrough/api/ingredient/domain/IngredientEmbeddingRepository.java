@@ -0,0 +1,14 @@
+package com.seethrough.api.ingredient.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface IngredientEmbeddingRepository {
+
+	List<IngredientEmbedding> findAllById(List<UUID> ingredientIdList);
+
+	List<IngredientEmbedding> findAllWithEmbedding();
+
+	void updateEmbeddingVectors(Map<UUID, float[]> embeddings);
+}
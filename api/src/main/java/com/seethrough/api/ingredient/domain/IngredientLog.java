@@ -1,16 +1,13 @@
 package com.seethrough.api.ingredient.domain;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.Type;
 import org.hibernate.type.SqlTypes;
 
 import com.seethrough.api.member.domain.Member;
 
-import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -23,7 +20,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 
 @Entity
@@ -61,10 +57,4 @@ public class IngredientLog {
 	@Builder.Default
 	@Column(name = "created_at", columnDefinition = "TIMESTAMP", nullable = false, updatable = false)
 	private LocalDateTime createdAt = LocalDateTime.now();
-
-	@Setter
-	@Column(name = "embedding_vector", columnDefinition = "VECTOR(1536)")
-	@Type(JsonType.class)
-	@ToString.Exclude
-	private List<Float> embeddingVector;
 }
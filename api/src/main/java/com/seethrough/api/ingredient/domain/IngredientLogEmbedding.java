@@ -0,0 +1,42 @@
+package com.seethrough.api.ingredient.domain;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Type;
+import org.hibernate.type.SqlTypes;
+
+import com.seethrough.api.common.type.PgVectorType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 입출고 로그의 임베딩 벡터만을 매핑하는 엔티티
+ * IngredientLog 조회 시 1536차원 벡터를 함께 읽지 않도록 같은 테이블을 별도 엔티티로 분리하였으며,
+ * 임베딩/유사도 처리 경로에서만 사용합니다.
+ */
+@Entity
+@Table(name = "ingredient_logs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class IngredientLogEmbedding {
+	@Id
+	@Column(name = "ingredient_log_id", columnDefinition = "VARCHAR(36)", nullable = false)
+	@JdbcTypeCode(SqlTypes.VARCHAR)
+	private UUID ingredientLogId;
+
+	@Setter
+	@Column(name = "embedding_vector", columnDefinition = "VECTOR(1536)", insertable = false)
+	@Type(PgVectorType.class)
+	@ToString.Exclude
+	private float[] embeddingVector;
+}
@@ -0,0 +1,12 @@
+package com.seethrough.api.ingredient.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface IngredientLogEmbeddingRepository {
+
+	List<IngredientLogEmbedding> findAllById(List<UUID> ingredientLogIdList);
+
+	void updateEmbeddingVectors(Map<UUID, float[]> embeddings);
+}
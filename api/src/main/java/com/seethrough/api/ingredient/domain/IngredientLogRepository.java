@@ -2,15 +2,24 @@ package com.seethrough.api.ingredient.domain;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 public interface IngredientLogRepository {
 
 	Slice<IngredientLog> findIngredientLogs(UUID memberId, Pageable pageable);
 
+	Window<IngredientLog> findIngredientLogs(UUID memberId, ScrollPosition position, Sort sort, Limit limit);
+
 	void saveAll(List<IngredientLog> ingredientLogs);
 
 	List<IngredientLog> findAllById(List<UUID> ingredientLogIdList);
+
+	Stream<IngredientLogSimilarity> findSimilarIngredientLogs(float[] embeddingVector, UUID memberId, int limit, Integer efSearch);
 }
@@ -0,0 +1,13 @@
+package com.seethrough.api.ingredient.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class IngredientLogSimilarity {
+	private IngredientLog ingredientLog;
+	private double distance;
+}
@@ -0,0 +1,11 @@
+package com.seethrough.api.ingredient.domain;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface IngredientNameEmbeddingRepository {
+
+	Map<String, float[]> findAllByNameKeys(String modelVersion, Collection<String> nameKeys);
+
+	void saveAll(String modelVersion, Map<String, float[]> embeddings);
+}
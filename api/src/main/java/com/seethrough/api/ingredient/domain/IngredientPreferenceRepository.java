@@ -0,0 +1,11 @@
+package com.seethrough.api.ingredient.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IngredientPreferenceRepository {
+
+	void refreshByMemberId(UUID memberId);
+
+	void saveAllByIngredientIds(List<UUID> ingredientIdList);
+}
@@ -4,13 +4,19 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 public interface IngredientRepository {
 
 	Slice<Ingredient> findIngredients(Pageable pageable);
 
+	Window<Ingredient> findIngredients(ScrollPosition position, Sort sort, Limit limit);
+
 	Slice<Ingredient> findIngredientsOrderedByPreference(UUID memberId, Pageable pageable);
 
 	Optional<Ingredient> findByIngredientId(UUID ingredientId);
@@ -20,4 +26,6 @@ public interface IngredientRepository {
 	List<Ingredient> findIngredientsByIngredientId(List<UUID> ingredientIdList);
 
 	void deleteAll(List<Ingredient> ingredients);
+
+	List<Ingredient> findAllIngredients();
 }
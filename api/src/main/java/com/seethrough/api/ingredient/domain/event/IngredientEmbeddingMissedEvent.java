@@ -0,0 +1,18 @@
+package com.seethrough.api.ingredient.domain.event;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 입고 시 이름 임베딩 캐시에 없어 벡터를 채우지 못한 식재료
+ */
+@Getter
+@Builder
+@ToString
+public class IngredientEmbeddingMissedEvent {
+	private final List<UUID> ingredientIdList;
+}
@@ -0,0 +1,13 @@
+package com.seethrough.api.ingredient.domain.event;
+
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class IngredientEmbeddingUpdatedEvent {
+	private final Map<UUID, float[]> embeddings;
+}
@@ -0,0 +1,15 @@
+package com.seethrough.api.ingredient.domain.event;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class IngredientOutboundEvent {
+	private final List<UUID> ingredientIdList;
+}
@@ -0,0 +1,89 @@
+package com.seethrough.api.ingredient.infrastructure;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.seethrough.api.ingredient.domain.EmbeddingBackfillRepository;
+import com.seethrough.api.ingredient.domain.EmbeddingBackfillTarget;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 임베딩 벡터가 비어 있는 행을 키셋으로 조회하고, 백필 진행 위치(embedding_backfill_checkpoints)를 관리하는 저장소
+ * 테이블/컬럼 이름은 EmbeddingBackfillTarget 상수에서만 가져옵니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EmbeddingBackfillRepositoryImpl implements EmbeddingBackfillRepository {
+
+	private static final String SELECT_IDS_WITHOUT_EMBEDDING =
+		"SELECT %2$s FROM %1$s WHERE embedding_vector IS NULL AND %2$s > :afterId ORDER BY %2$s LIMIT :limit";
+
+	private static final String COUNT_WITHOUT_EMBEDDING =
+		"SELECT COUNT(*) FROM %1$s WHERE embedding_vector IS NULL";
+
+	private static final String SELECT_CHECKPOINT =
+		"SELECT last_id FROM embedding_backfill_checkpoints WHERE target = :target";
+
+	private static final String UPSERT_CHECKPOINT =
+		"INSERT INTO embedding_backfill_checkpoints (target, last_id, updated_at) VALUES (:target, :lastId, CURRENT_TIMESTAMP) " +
+			"ON CONFLICT (target) DO UPDATE SET last_id = EXCLUDED.last_id, updated_at = EXCLUDED.updated_at";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<UUID> findIdsWithoutEmbedding(EmbeddingBackfillTarget target, String afterId, int limit) {
+		log.debug("[Repository] findIdsWithoutEmbedding 호출: target={}, afterId={}, limit={}", target, afterId, limit);
+
+		List<String> ids = entityManager.createNativeQuery(
+				SELECT_IDS_WITHOUT_EMBEDDING.formatted(target.getTableName(), target.getIdColumn()))
+			.setParameter("afterId", afterId)
+			.setParameter("limit", limit)
+			.getResultList();
+
+		log.debug("[Repository] 조회된 백필 대상 수: {}", ids.size());
+
+		return ids.stream()
+			.map(UUID::fromString)
+			.toList();
+	}
+
+	@Override
+	public long countWithoutEmbedding(EmbeddingBackfillTarget target) {
+		log.debug("[Repository] countWithoutEmbedding 호출: target={}", target);
+
+		return ((Number)entityManager.createNativeQuery(COUNT_WITHOUT_EMBEDDING.formatted(target.getTableName()))
+			.getSingleResult())
+			.longValue();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public String findCheckpoint(EmbeddingBackfillTarget target) {
+		log.debug("[Repository] findCheckpoint 호출: target={}", target);
+
+		List<String> result = entityManager.createNativeQuery(SELECT_CHECKPOINT)
+			.setParameter("target", target.name())
+			.getResultList();
+
+		return result.isEmpty() ? "" : result.get(0);
+	}
+
+	@Override
+	public void saveCheckpoint(EmbeddingBackfillTarget target, String lastId) {
+		log.debug("[Repository] saveCheckpoint 호출: target={}, lastId={}", target, lastId);
+
+		entityManager.createNativeQuery(UPSERT_CHECKPOINT)
+			.setParameter("target", target.name())
+			.setParameter("lastId", lastId)
+			.executeUpdate();
+	}
+}
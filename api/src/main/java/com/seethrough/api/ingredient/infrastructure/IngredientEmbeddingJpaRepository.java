@@ -0,0 +1,13 @@
+package com.seethrough.api.ingredient.infrastructure;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.seethrough.api.ingredient.domain.IngredientEmbedding;
+
+public interface IngredientEmbeddingJpaRepository extends JpaRepository<IngredientEmbedding, UUID> {
+
+	List<IngredientEmbedding> findAllByEmbeddingVectorIsNotNull();
+}
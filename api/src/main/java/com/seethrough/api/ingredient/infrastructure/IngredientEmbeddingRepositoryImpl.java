@@ -0,0 +1,77 @@
+package com.seethrough.api.ingredient.infrastructure;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import com.seethrough.api.ingredient.domain.IngredientEmbedding;
+import com.seethrough.api.ingredient.domain.IngredientEmbeddingRepository;
+
+import com.pgvector.PGvector;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IngredientEmbeddingRepositoryImpl implements IngredientEmbeddingRepository {
+
+	private static final String UPDATE_EMBEDDING_VECTOR_SQL =
+		"UPDATE ingredients SET embedding_vector = ? WHERE ingredient_id = ?";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+	private final IngredientEmbeddingJpaRepository ingredientEmbeddingJpaRepository;
+
+	@Override
+	public List<IngredientEmbedding> findAllById(List<UUID> ingredientIdList) {
+		log.debug("[Repository] findAllById 호출: {} 개의 식재료 임베딩", ingredientIdList.size());
+
+		List<IngredientEmbedding> entities = ingredientEmbeddingJpaRepository.findAllById(ingredientIdList);
+
+		log.debug("[Repository] 조회된 식재료 임베딩 수: {}", entities.size());
+
+		return entities;
+	}
+
+	@Override
+	public List<IngredientEmbedding> findAllWithEmbedding() {
+		log.debug("[Repository] findAllWithEmbedding 호출");
+
+		List<IngredientEmbedding> entities = ingredientEmbeddingJpaRepository.findAllByEmbeddingVectorIsNotNull();
+
+		log.debug("[Repository] 조회된 식재료 임베딩 수: {}", entities.size());
+
+		return entities;
+	}
+
+	@Override
+	public void updateEmbeddingVectors(Map<UUID, float[]> embeddings) {
+		log.debug("[Repository] updateEmbeddingVectors 호출: {} 개의 식재료 임베딩", embeddings.size());
+
+		if (embeddings.isEmpty()) {
+			return;
+		}
+
+		entityManager.flush();
+
+		entityManager.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(UPDATE_EMBEDDING_VECTOR_SQL)) {
+				for (Map.Entry<UUID, float[]> entry : embeddings.entrySet()) {
+					statement.setObject(1, new PGvector(entry.getValue()));
+					statement.setString(2, entry.getKey().toString());
+					statement.addBatch();
+				}
+
+				statement.executeBatch();
+			}
+		});
+	}
+}
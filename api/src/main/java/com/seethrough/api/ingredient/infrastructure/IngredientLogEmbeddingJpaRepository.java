@@ -0,0 +1,10 @@
+package com.seethrough.api.ingredient.infrastructure;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.seethrough.api.ingredient.domain.IngredientLogEmbedding;
+
+public interface IngredientLogEmbeddingJpaRepository extends JpaRepository<IngredientLogEmbedding, UUID> {
+}
@@ -0,0 +1,64 @@
+package com.seethrough.api.ingredient.infrastructure;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import com.seethrough.api.ingredient.domain.IngredientLogEmbedding;
+import com.seethrough.api.ingredient.domain.IngredientLogEmbeddingRepository;
+
+import com.pgvector.PGvector;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IngredientLogEmbeddingRepositoryImpl implements IngredientLogEmbeddingRepository {
+
+	private static final String UPDATE_EMBEDDING_VECTOR_SQL =
+		"UPDATE ingredient_logs SET embedding_vector = ? WHERE ingredient_log_id = ?";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+	private final IngredientLogEmbeddingJpaRepository ingredientLogEmbeddingJpaRepository;
+
+	@Override
+	public List<IngredientLogEmbedding> findAllById(List<UUID> ingredientLogIdList) {
+		log.debug("[Repository] findAllById 호출: {} 개의 로그 임베딩", ingredientLogIdList.size());
+
+		List<IngredientLogEmbedding> entities = ingredientLogEmbeddingJpaRepository.findAllById(ingredientLogIdList);
+
+		log.debug("[Repository] 조회된 로그 임베딩 수: {}", entities.size());
+
+		return entities;
+	}
+
+	@Override
+	public void updateEmbeddingVectors(Map<UUID, float[]> embeddings) {
+		log.debug("[Repository] updateEmbeddingVectors 호출: {} 개의 로그 임베딩", embeddings.size());
+
+		if (embeddings.isEmpty()) {
+			return;
+		}
+
+		entityManager.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(UPDATE_EMBEDDING_VECTOR_SQL)) {
+				for (Map.Entry<UUID, float[]> entry : embeddings.entrySet()) {
+					statement.setObject(1, new PGvector(entry.getValue()));
+					statement.setString(2, entry.getKey().toString());
+					statement.addBatch();
+				}
+
+				statement.executeBatch();
+			}
+		});
+	}
+}
@@ -2,8 +2,12 @@ package com.seethrough.api.ingredient.infrastructure;
 
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,4 +18,8 @@ public interface IngredientLogJpaRepository extends JpaRepository<IngredientLog,
 
 	@Query("SELECT i FROM IngredientLog i WHERE (:memberId IS NULL OR i.memberId = :memberId)")
 	Slice<IngredientLog> findAllByUserIdOptional(@Param("memberId") UUID memberId, Pageable pageable);
+
+	Window<IngredientLog> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+	Window<IngredientLog> findAllByMemberId(UUID memberId, ScrollPosition position, Sort sort, Limit limit);
 }
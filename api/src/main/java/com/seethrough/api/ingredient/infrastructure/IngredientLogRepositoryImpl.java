@@ -2,13 +2,23 @@ package com.seethrough.api.ingredient.infrastructure;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import com.seethrough.api.ingredient.domain.IngredientLog;
 import com.seethrough.api.ingredient.domain.IngredientLogRepository;
+import com.seethrough.api.ingredient.domain.IngredientLogSimilarity;
+
+import com.pgvector.PGvector;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -20,6 +30,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class IngredientLogRepositoryImpl implements IngredientLogRepository {
 
+	// HNSW(vector_cosine_ops) 인덱스를 타도록 ORDER BY 에 같은 거리 연산자(<=>)를 그대로 사용
+	private static final String SELECT_SIMILAR_INGREDIENT_LOGS =
+		"SELECT l.ingredient_log_id, l.ingredient_name, l.ingredient_image_path, l.member_id, l.movement_type, l.created_at, " +
+			"l.embedding_vector <=> CAST(:embeddingVector AS vector) AS distance " +
+			"FROM ingredient_logs l " +
+			"WHERE l.embedding_vector IS NOT NULL %s " +
+			"ORDER BY l.embedding_vector <=> CAST(:embeddingVector AS vector) " +
+			"LIMIT :limit";
+
+	private static final String SET_EF_SEARCH = "SELECT set_config('hnsw.ef_search', :efSearch, true)";
+
 	@PersistenceContext
 	private final EntityManager entityManager;
 	private final IngredientLogJpaRepository ingredientLogJpaRepository;
@@ -40,6 +61,23 @@ public class IngredientLogRepositoryImpl implements IngredientLogRepository {
 		return entities;
 	}
 
+	@Override
+	public Window<IngredientLog> findIngredientLogs(UUID memberId, ScrollPosition position, Sort sort, Limit limit) {
+		log.debug("[Repository] findIngredientLogs 호출: memberId={}, position={}, limit={}, sort={}", memberId, position, limit.max(), sort);
+
+		Window<IngredientLog> entities = memberId == null ?
+			ingredientLogJpaRepository.findAllBy(position, sort, limit) :
+			ingredientLogJpaRepository.findAllByMemberId(memberId, position, sort, limit);
+
+		log.debug("[Repository] 조회된 입출고 로그 수: {}, 남은 데이터 여부: {}", entities.size(), entities.hasNext());
+
+		if (!entities.isEmpty()) {
+			log.debug("[Repository] 첫 번째 입출고 로그 상세 정보:{}", entities.getContent().get(0));
+		}
+
+		return entities;
+	}
+
 	@Override
 	public void saveAll(List<IngredientLog> ingredientLogs) {
 		log.debug("[Repository] saveAll 호출: {} 개의 로그", ingredientLogs.size());
@@ -61,4 +99,33 @@ public class IngredientLogRepositoryImpl implements IngredientLogRepository {
 
 		return entities;
 	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Stream<IngredientLogSimilarity> findSimilarIngredientLogs(float[] embeddingVector, UUID memberId, int limit, Integer efSearch) {
+		log.debug("[Repository] findSimilarIngredientLogs 호출: memberId={}, limit={}, efSearch={}", memberId, limit, efSearch);
+
+		if (efSearch != null) {
+			// 트랜잭션 범위(SET LOCAL)로만 적용
+			entityManager.createNativeQuery(SET_EF_SEARCH)
+				.setParameter("efSearch", String.valueOf(efSearch))
+				.getSingleResult();
+		}
+
+		NativeQuery<Object[]> query = entityManager.createNativeQuery(
+				SELECT_SIMILAR_INGREDIENT_LOGS.formatted(memberId == null ? "" : "AND l.member_id = :memberId"))
+			.unwrap(NativeQuery.class)
+			.addEntity("l", IngredientLog.class)
+			.addScalar("distance", StandardBasicTypes.DOUBLE);
+
+		query.setParameter("embeddingVector", new PGvector(embeddingVector).toString())
+			.setParameter("limit", limit);
+
+		if (memberId != null) {
+			query.setParameter("memberId", memberId.toString());
+		}
+
+		return query.getResultStream()
+			.map(row -> new IngredientLogSimilarity((IngredientLog)row[0], (Double)row[1]));
+	}
 }
@@ -0,0 +1,91 @@
+package com.seethrough.api.ingredient.infrastructure;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import com.pgvector.PGvector;
+import com.seethrough.api.ingredient.domain.IngredientNameEmbeddingRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식재료 이름 임베딩 캐시(ingredient_name_embeddings)의 영속 계층 저장소
+ * 같은 이름은 같은 임베딩을 가지므로 (정규화된 이름, 모델 버전) 으로 한 번만 저장합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IngredientNameEmbeddingRepositoryImpl implements IngredientNameEmbeddingRepository {
+
+	private static final String SELECT_BY_NAME_KEYS_SQL =
+		"SELECT name_key, embedding_vector::text FROM ingredient_name_embeddings " +
+			"WHERE model_version = ? AND name_key = ANY (?)";
+
+	private static final String INSERT_SQL =
+		"INSERT INTO ingredient_name_embeddings (name_key, model_version, embedding_vector) VALUES (?, ?, ?) " +
+			"ON CONFLICT (name_key, model_version) DO NOTHING";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	@Override
+	public Map<String, float[]> findAllByNameKeys(String modelVersion, Collection<String> nameKeys) {
+		log.debug("[Repository] findAllByNameKeys 호출: modelVersion={}, {} 개의 이름", modelVersion, nameKeys.size());
+
+		if (nameKeys.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<String, float[]> embeddings = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			Map<String, float[]> result = new HashMap<>();
+
+			try (PreparedStatement statement = connection.prepareStatement(SELECT_BY_NAME_KEYS_SQL)) {
+				statement.setString(1, modelVersion);
+				statement.setArray(2, connection.createArrayOf("text", nameKeys.toArray()));
+
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next()) {
+						result.put(resultSet.getString(1), new PGvector(resultSet.getString(2)).toArray());
+					}
+				}
+			}
+
+			return result;
+		});
+
+		log.debug("[Repository] 조회된 이름 임베딩 수: {}", embeddings.size());
+
+		return embeddings;
+	}
+
+	@Override
+	public void saveAll(String modelVersion, Map<String, float[]> embeddings) {
+		log.debug("[Repository] saveAll 호출: modelVersion={}, {} 개의 이름 임베딩", modelVersion, embeddings.size());
+
+		if (embeddings.isEmpty()) {
+			return;
+		}
+
+		entityManager.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+				for (Map.Entry<String, float[]> entry : embeddings.entrySet()) {
+					statement.setString(1, entry.getKey());
+					statement.setString(2, modelVersion);
+					statement.setObject(3, new PGvector(entry.getValue()));
+					statement.addBatch();
+				}
+
+				statement.executeBatch();
+			}
+		});
+	}
+}
@@ -0,0 +1,75 @@
+package com.seethrough.api.ingredient.infrastructure;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.seethrough.api.ingredient.domain.IngredientPreferenceRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구성원별 식재료 선호도 순위(member_ingredient_preferences)를 유지하는 저장소
+ * 선호도 정렬 목록 조회가 (member_id, preference_order, ingredient_id) 인덱스 범위 스캔이 되도록
+ * 구성원의 선호/비선호 음식 변경 및 식재료 입고 시점에 순위를 미리 계산해 둡니다.
+ * 출고된 식재료의 순위는 외래 키의 ON DELETE CASCADE로 함께 삭제됩니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IngredientPreferenceRepositoryImpl implements IngredientPreferenceRepository {
+
+	private static final String UPSERT_PREFERENCE_ORDER =
+		"INSERT INTO member_ingredient_preferences (member_id, ingredient_id, preference_order) " +
+			"SELECT m.member_id, i.ingredient_id, " +
+			"CASE " +
+			"    WHEN m.preferred_foods @> jsonb_build_array(i.name) THEN 1 " +
+			"    WHEN m.disliked_foods @> jsonb_build_array(i.name) THEN 3 " +
+			"    ELSE 2 " +
+			"END " +
+			"FROM members m " +
+			"CROSS JOIN ingredients i " +
+			"WHERE %s " +
+			"ON CONFLICT (member_id, ingredient_id) DO UPDATE " +
+			"SET preference_order = EXCLUDED.preference_order " +
+			"WHERE member_ingredient_preferences.preference_order <> EXCLUDED.preference_order";
+
+	@PersistenceContext
+	private final EntityManager entityManager;
+
+	@Override
+	public void refreshByMemberId(UUID memberId) {
+		log.debug("[Repository] refreshByMemberId 호출: memberId={}", memberId);
+
+		entityManager.flush();
+
+		int result = entityManager.createNativeQuery(UPSERT_PREFERENCE_ORDER.formatted("m.member_id = :memberId"))
+			.setParameter("memberId", memberId.toString())
+			.executeUpdate();
+
+		log.debug("[Repository] 갱신된 선호도 순위 수: {}", result);
+	}
+
+	@Override
+	public void saveAllByIngredientIds(List<UUID> ingredientIdList) {
+		log.debug("[Repository] saveAllByIngredientIds 호출: {} 개의 식재료", ingredientIdList.size());
+
+		if (ingredientIdList.isEmpty()) {
+			return;
+		}
+
+		entityManager.flush();
+
+		int result = entityManager.createNativeQuery(UPSERT_PREFERENCE_ORDER.formatted("i.ingredient_id IN (:ingredientIds)"))
+			.setParameter("ingredientIds", ingredientIdList.stream()
+				.map(UUID::toString)
+				.toList())
+			.executeUpdate();
+
+		log.debug("[Repository] 저장된 선호도 순위 수: {}", result);
+	}
+}
@@ -4,8 +4,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import com.seethrough.api.ingredient.domain.Ingredient;
@@ -40,6 +44,21 @@ public class IngredientRepositoryImpl implements IngredientRepository {
 		return entities;
 	}
 
+	@Override
+	public Window<Ingredient> findIngredients(ScrollPosition position, Sort sort, Limit limit) {
+		log.debug("[Repository] findIngredients 호출: position={}, limit={}, sort={}", position, limit.max(), sort);
+
+		Window<Ingredient> entities = ingredientJpaRepository.findAllBy(position, sort, limit);
+
+		log.debug("[Repository] 조회된 식재료 수: {}, 남은 데이터 여부: {}", entities.size(), entities.hasNext());
+
+		if (!entities.isEmpty()) {
+			log.debug("[Repository] 첫 번째 식재료 상세 정보:{}", entities.getContent().get(0));
+		}
+
+		return entities;
+	}
+
 	@Override
 	public Slice<Ingredient> findIngredientsOrderedByPreference(UUID memberId, Pageable pageable) {
 		log.debug("[Repository] findIngredients 호출: memberId={}, page={}, size={}, sort={}", memberId, pageable.getPageNumber(),
@@ -95,4 +114,15 @@ public class IngredientRepositoryImpl implements IngredientRepository {
 
 		ingredientJpaRepository.deleteAll(ingredients);
 	}
+
+	@Override
+	public List<Ingredient> findAllIngredients() {
+		log.debug("[Repository] findAllIngredients 호출");
+
+		List<Ingredient> result = ingredientJpaRepository.findAll();
+
+		log.debug("[Repository] 식재료 수: {}", result.size());
+
+		return result;
+	}
 }
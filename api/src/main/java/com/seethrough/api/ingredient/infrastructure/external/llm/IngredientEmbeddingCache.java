@@ -0,0 +1,115 @@
+package com.seethrough.api.ingredient.infrastructure.external.llm;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seethrough.api.ingredient.domain.IngredientNameEmbeddingRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식재료 이름 임베딩 2단계 캐시
+ * 1단계는 JVM 내 LRU, 2단계는 ingredient_name_embeddings 테이블이며
+ * 키는 정규화된 식재료 이름과 임베딩 모델 버전입니다.
+ * 2단계 저장은 호출한 쪽 트랜잭션과 분리된 별도 트랜잭션에서 수행하며, 실패해도 호출한 쪽에는 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientEmbeddingCache {
+
+	private final IngredientNameEmbeddingRepository ingredientNameEmbeddingRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${embedding.model-version}")
+	private String modelVersion;
+
+	@Value("${embedding.cache.max-size:2000}")
+	private int maxSize;
+
+	private Map<String, float[]> localCache;
+	private TransactionTemplate requiresNewTransactionTemplate;
+
+	@PostConstruct
+	void init() {
+		requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+		requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		localCache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public static String normalize(String name) {
+		return Normalizer.normalize(name, Normalizer.Form.NFC)
+			.strip()
+			.replaceAll("\\s+", " ")
+			.toLowerCase(Locale.ROOT);
+	}
+
+	public Map<String, float[]> getAll(Collection<String> nameKeys) {
+		Map<String, float[]> result = new HashMap<>();
+
+		synchronized (localCache) {
+			nameKeys.forEach(nameKey -> {
+				float[] embedding = localCache.get(nameKey);
+				if (embedding != null) {
+					result.put(nameKey, embedding);
+				}
+			});
+		}
+
+		List<String> localMisses = nameKeys.stream()
+			.filter(nameKey -> !result.containsKey(nameKey))
+			.toList();
+
+		if (!localMisses.isEmpty()) {
+			Map<String, float[]> stored = ingredientNameEmbeddingRepository.findAllByNameKeys(modelVersion, localMisses);
+
+			synchronized (localCache) {
+				localCache.putAll(stored);
+			}
+
+			result.putAll(stored);
+		}
+
+		log.debug("[IngredientEmbeddingCache] 캐시 조회: 요청 {} 개, 메모리 적중 {} 개, 전체 적중 {} 개",
+			nameKeys.size(), nameKeys.size() - localMisses.size(), result.size());
+
+		return result;
+	}
+
+	public void putAll(Map<String, float[]> embeddings) {
+		if (embeddings.isEmpty()) {
+			return;
+		}
+
+		try {
+			requiresNewTransactionTemplate.executeWithoutResult(status -> ingredientNameEmbeddingRepository.saveAll(modelVersion, embeddings));
+		}
+		catch (RuntimeException e) {
+			// 2단계 저장에 실패해도 1단계에는 넣어 두고, 다음 미스 때 다시 저장합니다.
+			log.warn("[IngredientEmbeddingCache] 이름 임베딩 저장 실패: {} 개의 이름, error={}", embeddings.size(), e.getMessage());
+		}
+
+		synchronized (localCache) {
+			localCache.putAll(embeddings);
+		}
+	}
+}
@@ -1,7 +1,13 @@
 package com.seethrough.api.ingredient.infrastructure.external.llm;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
@@ -9,12 +15,15 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import com.seethrough.api.common.infrastructure.LlmApiClient;
 import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientEmbeddingListRequest;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.request.IngredientEmbeddingRequest;
 import com.seethrough.api.ingredient.infrastructure.external.llm.dto.response.CommentResponse;
 import com.seethrough.api.ingredient.infrastructure.external.llm.dto.response.IngredientEmbeddingListResponse;
+import com.seethrough.api.ingredient.infrastructure.external.llm.dto.response.IngredientEmbeddingResponse;
 import com.seethrough.api.ingredient.presentation.dto.response.OutBoundCommentResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
@@ -22,20 +31,105 @@ import lombok.extern.slf4j.Slf4j;
 public class LlmApiIngredientService {
 
 	private final LlmApiClient llmApiClient;
+	private final IngredientEmbeddingCache ingredientEmbeddingCache;
+
+	/**
+	 * 이름 임베딩 캐시에 있는 식재료만 반환하며 LLM 은 호출하지 않습니다.
+	 */
+	public IngredientEmbeddingListResponse findCachedIngredientEmbedding(IngredientEmbeddingListRequest request) {
+		Map<String, String> nameKeyByIngredientId = toNameKeyByIngredientId(request);
+
+		Map<String, float[]> embeddings = ingredientEmbeddingCache.getAll(nameKeyByIngredientId.values().stream()
+			.distinct()
+			.toList());
+
+		log.debug("[LlmApiIngredientService] 식재료 임베딩 벡터 캐시 조회: {} 개의 이름 적중 / {} 개의 식재료",
+			embeddings.size(), nameKeyByIngredientId.size());
+
+		return toListResponse(nameKeyByIngredientId, embeddings);
+	}
 
 	public IngredientEmbeddingListResponse createIngredientEmbedding(IngredientEmbeddingListRequest request) {
 		log.info("[LlmApiIngredientService] 식재료 임베딩 벡터 요청 시작: request = {}", request);
 
+		Map<String, String> nameKeyByIngredientId = toNameKeyByIngredientId(request);
+
+		Map<String, float[]> embeddings = ingredientEmbeddingCache.getAll(nameKeyByIngredientId.values().stream()
+			.distinct()
+			.toList());
+
+		// 캐시에 없는 이름만 이름당 한 번씩 요청
+		Set<String> missNameKeys = new HashSet<>();
+		Map<String, String> missNameKeyByIngredientId = new LinkedHashMap<>();
+		nameKeyByIngredientId.forEach((ingredientId, nameKey) -> {
+			if (!embeddings.containsKey(nameKey) && missNameKeys.add(nameKey)) {
+				missNameKeyByIngredientId.put(ingredientId, nameKey);
+			}
+		});
+
+		if (!missNameKeyByIngredientId.isEmpty()) {
+			Map<String, float[]> created = requestIngredientEmbedding(missNameKeyByIngredientId);
+
+			ingredientEmbeddingCache.putAll(created);
+			embeddings.putAll(created);
+		}
+
+		log.info("[LlmApiIngredientService] 식재료 임베딩 벡터 캐시 미스: {} 개의 이름 / {} 개의 식재료",
+			missNameKeys.size(), nameKeyByIngredientId.size());
+
+		return toListResponse(nameKeyByIngredientId, embeddings);
+	}
+
+	private Map<String, String> toNameKeyByIngredientId(IngredientEmbeddingListRequest request) {
+		return request.getIngredients().stream()
+			.collect(Collectors.toMap(
+				IngredientEmbeddingRequest::getIngredientId,
+				ingredient -> IngredientEmbeddingCache.normalize(ingredient.getName()),
+				(first, second) -> first,
+				LinkedHashMap::new)
+			);
+	}
+
+	private IngredientEmbeddingListResponse toListResponse(Map<String, String> nameKeyByIngredientId, Map<String, float[]> embeddings) {
+		List<IngredientEmbeddingResponse> responses = nameKeyByIngredientId.entrySet().stream()
+			.filter(entry -> embeddings.containsKey(entry.getValue()))
+			.map(entry -> IngredientEmbeddingResponse.builder()
+				.ingredientId(entry.getKey())
+				.embedding(embeddings.get(entry.getValue()))
+				.build())
+			.toList();
+
+		return IngredientEmbeddingListResponse.builder()
+			.embeddings(responses)
+			.build();
+	}
+
+	private Map<String, float[]> requestIngredientEmbedding(Map<String, String> nameKeyByIngredientId) {
+		IngredientEmbeddingListRequest request = IngredientEmbeddingListRequest.from(nameKeyByIngredientId.entrySet().stream()
+			.map(entry -> IngredientEmbeddingRequest.builder()
+				.ingredientId(entry.getKey())
+				.name(entry.getValue())
+				.build())
+			.toList());
+
 		String uri = UriComponentsBuilder.fromPath("/llm/embedding/ingredient")
 			.build()
 			.toUriString();
 
-		return llmApiClient.sendRequestMono(HttpMethod.POST, uri, request, IngredientEmbeddingListResponse.class)
-			.doOnNext(response -> log.info("[LlmApiIngredientService] 식재료 임베딩 벡터 응답: {}", response))
-			.block();
+		return Optional.ofNullable(llmApiClient.sendRequestMono(HttpMethod.POST, uri, request, IngredientEmbeddingListResponse.class)
+				.doOnNext(response -> log.info("[LlmApiIngredientService] 식재료 임베딩 벡터 응답: {}", response))
+				.block())
+			.map(response -> response.getEmbeddings().stream()
+				.filter(embedding -> nameKeyByIngredientId.containsKey(embedding.getIngredientId()))
+				.collect(Collectors.toMap(
+					embedding -> nameKeyByIngredientId.get(embedding.getIngredientId()),
+					IngredientEmbeddingResponse::getEmbedding,
+					(first, second) -> first)
+				))
+			.orElseGet(Map::of);
 	}
 
-	public OutBoundCommentResponse createComment(UUID memberId, UUID ingredientId) {
+	public Mono<OutBoundCommentResponse> createComment(UUID memberId, UUID ingredientId) {
 		log.info("[LlmApiIngredientService] 외부 API 식재료 출고 개인 알림 요청 시작: memberId = {}, ingredientId = {}", memberId, ingredientId);
 
 		String uri = UriComponentsBuilder.fromPath("/llm/food/comment")
@@ -44,13 +138,11 @@ public class LlmApiIngredientService {
 			.build()
 			.toUriString();
 
-		return Optional.ofNullable(llmApiClient.sendRequestMono(HttpMethod.GET, uri, CommentResponse.class)
-				.doOnNext(response -> log.info("[LlmApiService] 외부 API 식재료 출고 개인 알림 응답: {}", response))
-				.block())
+		return llmApiClient.sendRequestMono(HttpMethod.GET, uri, CommentResponse.class)
+			.doOnNext(response -> log.info("[LlmApiService] 외부 API 식재료 출고 개인 알림 응답: {}", response))
 			.map(response -> OutBoundCommentResponse.builder()
 				.comment(response.getComment())
 				.isDanger(response.getCategory() <= 2)
-				.build())
-			.orElse(null);
+				.build());
 	}
 }
@@ -1,18 +1,22 @@
 package com.seethrough.api.ingredient.infrastructure.external.llm.dto.response;
 
-import java.util.List;
-
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class IngredientEmbeddingResponse {
 	@JsonProperty("ingredient_id")
 	private String ingredientId;
 
 	@JsonProperty("embedding")
-	private List<Float> embedding;
+	private float[] embedding;
 
 	@Override
 	public String toString() {
@@ -22,18 +26,18 @@ public class IngredientEmbeddingResponse {
 		sb.append(", embedding=[");
 
 		if (embedding != null) {
-			int showCount = Math.min(3, embedding.size());
+			int showCount = Math.min(3, embedding.length);
 
 			for (int i = 0; i < showCount; i++) {
-				sb.append(embedding.get(i));
+				sb.append(embedding[i]);
 
 				if (i < showCount - 1) {
 					sb.append(", ");
 				}
 			}
 
-			if (embedding.size() > showCount) {
-				sb.append(", ... (").append(embedding.size() - showCount).append(" more)");
+			if (embedding.length > showCount) {
+				sb.append(", ... (").append(embedding.length - showCount).append(" more)");
 			}
 		}
 		else {
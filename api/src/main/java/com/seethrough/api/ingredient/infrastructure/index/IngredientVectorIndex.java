@@ -0,0 +1,225 @@
+package com.seethrough.api.ingredient.infrastructure.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 냉장고 식재료 임베딩의 JVM 내 최근접 이웃 인덱스
+ * 냉장고 식재료는 많아야 수백 개이므로 그래프(HNSW)/군집(IVF) 구조 대신
+ * 정규화된 벡터를 연속 배열에 두고 전수 내적 비교하며, 이 규모에서는 이 방식이 더 빠르고 정확합니다.
+ * quantization 을 켜면 벡터를 행별 스케일과 함께 int8 로 저장하여 메모리를 1/4 로 줄입니다.
+ * 변경 시 새 스냅샷을 만들어 교체하므로 조회는 잠금 없이 수행됩니다.
+ */
+@Slf4j
+@Component
+public class IngredientVectorIndex {
+
+	private final Map<UUID, float[]> vectors = new HashMap<>();
+
+	@Value("${ingredient.vector-index.quantization:false}")
+	private boolean quantization;
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	public synchronized void putAll(Map<UUID, float[]> embeddings) {
+		embeddings.forEach((ingredientId, embedding) -> {
+			if (embedding != null && embedding.length > 0) {
+				vectors.put(ingredientId, normalize(embedding));
+			}
+		});
+
+		rebuild();
+	}
+
+	public synchronized void removeAll(Collection<UUID> ingredientIdList) {
+		ingredientIdList.forEach(vectors::remove);
+
+		rebuild();
+	}
+
+	public float[] get(UUID ingredientId) {
+		Snapshot current = snapshot;
+		Integer position = current.positions.get(ingredientId);
+
+		if (position == null) {
+			return null;
+		}
+
+		int offset = position * current.dimension;
+
+		if (current.quantized == null) {
+			return Arrays.copyOfRange(current.vectors, offset, offset + current.dimension);
+		}
+
+		float[] vector = new float[current.dimension];
+		for (int i = 0; i < current.dimension; i++) {
+			vector[i] = current.quantized[offset + i] * current.scales[position];
+		}
+
+		return vector;
+	}
+
+	public int size() {
+		return snapshot.ids.length;
+	}
+
+	public List<Neighbor> search(float[] query, int k, UUID excludeId) {
+		Snapshot current = snapshot;
+
+		if (k <= 0 || current.ids.length == 0 || query.length != current.dimension) {
+			return List.of();
+		}
+
+		float[] normalizedQuery = normalize(query);
+		PriorityQueue<Neighbor> topK = new PriorityQueue<>(k + 1, (a, b) -> Float.compare(a.similarity, b.similarity));
+
+		for (int i = 0; i < current.ids.length; i++) {
+			if (current.ids[i].equals(excludeId)) {
+				continue;
+			}
+
+			float similarity = current.quantized == null ?
+				dot(normalizedQuery, current.vectors, i * current.dimension, current.dimension) :
+				dot(normalizedQuery, current.quantized, i * current.dimension, current.dimension) * current.scales[i];
+
+			if (topK.size() < k) {
+				topK.add(new Neighbor(current.ids[i], similarity));
+			}
+			else if (similarity > topK.peek().similarity) {
+				topK.poll();
+				topK.add(new Neighbor(current.ids[i], similarity));
+			}
+		}
+
+		List<Neighbor> result = new ArrayList<>(topK);
+		result.sort((a, b) -> Float.compare(b.similarity, a.similarity));
+
+		return result;
+	}
+
+	private void rebuild() {
+		int size = vectors.size();
+		int dimension = vectors.values().stream()
+			.findFirst()
+			.map(vector -> vector.length)
+			.orElse(0);
+
+		UUID[] ids = new UUID[size];
+		float[] flat = new float[size * dimension];
+		Map<UUID, Integer> positions = new HashMap<>(size * 2);
+
+		int i = 0;
+		for (Map.Entry<UUID, float[]> entry : vectors.entrySet()) {
+			if (entry.getValue().length != dimension) {
+				continue;
+			}
+
+			ids[i] = entry.getKey();
+			positions.put(entry.getKey(), i);
+			System.arraycopy(entry.getValue(), 0, flat, i * dimension, dimension);
+			i++;
+		}
+
+		if (i < size) {
+			ids = Arrays.copyOf(ids, i);
+			flat = Arrays.copyOf(flat, i * dimension);
+		}
+
+		byte[] quantized = null;
+		float[] scales = null;
+
+		if (quantization) {
+			quantized = new byte[flat.length];
+			scales = new float[ids.length];
+
+			for (int row = 0; row < ids.length; row++) {
+				float max = 0;
+				for (int col = 0; col < dimension; col++) {
+					max = Math.max(max, Math.abs(flat[row * dimension + col]));
+				}
+
+				scales[row] = max == 0 ? 0 : max / 127f;
+
+				for (int col = 0; col < dimension; col++) {
+					quantized[row * dimension + col] = scales[row] == 0 ? 0 : (byte)Math.round(flat[row * dimension + col] / scales[row]);
+				}
+			}
+		}
+
+		snapshot = new Snapshot(ids, positions, dimension, quantization ? null : flat, quantized, scales);
+
+		log.debug("[IngredientVectorIndex] 인덱스 갱신: {} 개의 식재료, dimension={}, quantization={}", ids.length, dimension, quantization);
+	}
+
+	private static float[] normalize(float[] vector) {
+		double norm = 0;
+		for (float value : vector) {
+			norm += value * value;
+		}
+
+		norm = Math.sqrt(norm);
+
+		float[] normalized = new float[vector.length];
+		if (norm == 0) {
+			return normalized;
+		}
+
+		for (int i = 0; i < vector.length; i++) {
+			normalized[i] = (float)(vector[i] / norm);
+		}
+
+		return normalized;
+	}
+
+	private static float dot(float[] query, float[] vectors, int offset, int dimension) {
+		float sum = 0;
+		for (int i = 0; i < dimension; i++) {
+			sum += query[i] * vectors[offset + i];
+		}
+
+		return sum;
+	}
+
+	private static float dot(float[] query, byte[] vectors, int offset, int dimension) {
+		float sum = 0;
+		for (int i = 0; i < dimension; i++) {
+			sum += query[i] * vectors[offset + i];
+		}
+
+		return sum;
+	}
+
+	@Getter
+	@ToString
+	@AllArgsConstructor
+	public static class Neighbor {
+		private UUID ingredientId;
+		private float similarity;
+	}
+
+	@AllArgsConstructor
+	private static class Snapshot {
+		private static final Snapshot EMPTY = new Snapshot(new UUID[0], Map.of(), 0, new float[0], null, null);
+
+		private final UUID[] ids;
+		private final Map<UUID, Integer> positions;
+		private final int dimension;
+		private final float[] vectors;
+		private final byte[] quantized;
+		private final float[] scales;
+	}
+}
@@ -0,0 +1,40 @@
+package com.seethrough.api.ingredient.presentation;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.seethrough.api.ingredient.application.service.EmbeddingBackfillService;
+import com.seethrough.api.ingredient.presentation.dto.response.EmbeddingBackfillProgressResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/embedding-backfill")
+@Tag(name = "임베딩 백필 관리", description = "누락된 임베딩 벡터 백필 작업을 관리하는 API")
+public class EmbeddingBackfillController {
+
+	private final EmbeddingBackfillService embeddingBackfillService;
+
+	@GetMapping("/progress")
+	@Operation(
+		summary = "임베딩 백필 진행 상황 조회",
+		description = "식재료/입출고 로그의 임베딩 백필 진행 상황을 반환합니다.<br>" +
+			"대상별로 체크포인트, 남은 백필 대상 수, 이번 실행에서 처리한 행 수와 초당 처리량을 제공합니다."
+	)
+	public ResponseEntity<EmbeddingBackfillProgressResponse> getProgress() {
+		log.info("[Controller - GET /api/embedding-backfill/progress] 임베딩 백필 진행 상황 조회 요청");
+
+		EmbeddingBackfillProgressResponse response = embeddingBackfillService.getProgress();
+
+		log.debug("[Controller] 응답: {}", response);
+
+		return ResponseEntity.ok(response);
+	}
+}
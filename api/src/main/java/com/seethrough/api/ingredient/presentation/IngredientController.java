@@ -1,7 +1,10 @@
 package com.seethrough.api.ingredient.presentation;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,6 +15,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.seethrough.api.common.exception.ErrorResponse;
+import com.seethrough.api.common.pagination.CursorRequestDto;
+import com.seethrough.api.common.pagination.CursorResponseDto;
 import com.seethrough.api.common.pagination.SliceResponseDto;
 import com.seethrough.api.ingredient.application.service.IngredientService;
 import com.seethrough.api.ingredient.presentation.dto.request.InboundIngredientsRequest;
@@ -19,6 +24,7 @@ import com.seethrough.api.ingredient.presentation.dto.request.OutboundIngredient
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientDetailResponse;
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientListResponse;
 import com.seethrough.api.ingredient.presentation.dto.response.OutBoundCommentResponse;
+import com.seethrough.api.ingredient.presentation.dto.response.SimilarIngredientResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,10 +34,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/ingredients")
@@ -81,6 +90,44 @@ public class IngredientController {
 		return ResponseEntity.ok(responseList);
 	}
 
+	@GetMapping("/cursor")
+	@Operation(
+		summary = "식재료 목록 커서 조회",
+		description = "모든 식재료의 목록을 커서 기반 페이지네이션을 적용하여 반환합니다.<br>" +
+			"커서가 비어있으면 첫 페이지를 반환하며, 이후에는 응답의 next_cursor를 그대로 전달하면 다음 페이지를 반환합니다.<br>" +
+			"기본적으로 입고일 기준 오름차순으로 정렬되며, 페이지 위치와 관계없이 조회 비용이 일정합니다."
+	)
+	public ResponseEntity<CursorResponseDto<IngredientListResponse>> getIngredientListByCursor(
+		@Parameter(description = "이전 응답의 다음 페이지 커서 (비어있으면 첫 페이지)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "페이지당 항목 수 (최대 100)")
+		@RequestParam(defaultValue = "10")
+		@Min(value = 1, message = "size는 1 이상이어야 합니다")
+		@Max(value = CursorRequestDto.MAX_SIZE, message = "size는 100 이하여야 합니다") Integer size,
+
+		@Parameter(description = "정렬 기준 필드 (inboundAt, name 중 하나, 그 외에는 400)")
+		@RequestParam(defaultValue = "inboundAt") String sortBy,
+
+		@Parameter(description = "정렬 방향 (ASC: 오름차순, DESC: 내림차순)")
+		@RequestParam(defaultValue = "ASC") String sortDirection
+	) {
+		log.info("[Controller - GET /api/ingredients/cursor] 식재료 목록 커서 조회 요청: cursor={}, size={}, sortBy={}, sortDirection={}",
+			cursor, size, sortBy, sortDirection);
+
+		CursorResponseDto<IngredientListResponse> responseList = ingredientService.getIngredientListByCursor(cursor, size, sortBy, sortDirection);
+
+		if (!responseList.getContent().isEmpty()) {
+			log.debug("[Controller] 첫 번째 응답 상세 정보:{}", responseList.getContent().get(0));
+		}
+
+		log.info("[Controller] 식재료 목록 커서 조회 응답: 총 {}개 항목, 다음 페이지 존재 여부: {}",
+			responseList.getContent().size(),
+			responseList.getCursorInfo().getHasNext());
+
+		return ResponseEntity.ok(responseList);
+	}
+
 	@GetMapping("/{ingredientId}")
 	@Operation(
 		summary = "식재료 조회",
@@ -103,6 +150,30 @@ public class IngredientController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/{ingredientId}/similar")
+	@Operation(
+		summary = "유사 식재료 조회",
+		description = "UUID로 식별되는 식재료와 임베딩이 가장 유사한 냉장고 속 식재료를 최대 k개 반환합니다.<br>" +
+			"서버 메모리의 식재료 임베딩 인덱스에서 조회하므로 LLM/DB 벡터 검색을 거치지 않습니다.<br>" +
+			"임베딩이 아직 생성되지 않은 식재료는 빈 목록을 반환합니다."
+	)
+	public ResponseEntity<List<SimilarIngredientResponse>> getSimilarIngredients(
+		@PathVariable String ingredientId,
+
+		@Parameter(description = "반환할 최대 식재료 수 (1 ~ 100)")
+		@RequestParam(defaultValue = "5")
+		@Min(value = 1, message = "k는 1 이상이어야 합니다")
+		@Max(value = 100, message = "k는 100 이하여야 합니다") Integer k
+	) {
+		log.info("[Controller - GET /api/ingredients/{ingredientId}/similar] 유사 식재료 조회 요청: ingredientId={}, k={}", ingredientId, k);
+
+		List<SimilarIngredientResponse> responseList = ingredientService.getSimilarIngredients(ingredientId, k);
+
+		log.debug("[Controller] 유사 식재료 조회 응답: 총 {}개 항목", responseList.size());
+
+		return ResponseEntity.ok(responseList);
+	}
+
 	@PostMapping()
 	@Operation(
 		summary = "식재료 입고",
@@ -133,14 +204,14 @@ public class IngredientController {
 		summary = "식재료 출고",
 		description = "식재료를 출고합니다.<br>" +
 			"해당 구성원 ID에 매칭되는 구성원이 없는 경우 MemberNotFoundException이 발생합니다.<br>" +
-			"출고 요청 데이터가 1개인 경우 LLM API를 비동기적으로 호출하여 출고 이벤트를 처리합니다.<br>" +
+			"출고하는 식재료들의 경고를 한 번에 조회하고, 경고가 없는 식재료만 LLM API를 병렬로 호출하여 맞춤 코멘트를 만듭니다.<br>" +
 			"출고 처리 시 시스템에 자동으로 입출고 로그가 기록됩니다. 로그에는 입출고 일시, 담당자, 식재료 이름, 입출고 형태가 포함됩니다.<br><br>" +
-			"응답으로는 요청 데이터가 1개인 경우 200 Ok 상태 코드와 함께 LLM 맞춤 알림이 반환됩니다.<br>" +
-			"요청 데이터가 여러 개인 경우 204 No Content 상태 코드가 반환됩니다."
+			"응답으로는 200 Ok 상태 코드와 함께 식재료별 코멘트 목록(comments)과 대표 코멘트(위험한 식재료 우선)가 반환됩니다.<br>" +
+			"코멘트를 하나도 만들지 못한 경우 204 No Content 상태 코드가 반환됩니다."
 	)
 	@ApiResponses(value = {
-		@ApiResponse(responseCode = "200", description = "식재료 1개 출고 성공 및 LLM 맞춤 알람"),
-		@ApiResponse(responseCode = "204", description = "식재료 여러개 출고 성공"),
+		@ApiResponse(responseCode = "200", description = "식재료 출고 성공 및 식재료별 LLM 맞춤 알람"),
+		@ApiResponse(responseCode = "204", description = "식재료 출고 성공 (코멘트 없음)"),
 		@ApiResponse(responseCode = "404", description = "구성원을 찾을 수 없음",
 			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	})
@@ -1,22 +1,39 @@
 package com.seethrough.api.ingredient.presentation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import com.seethrough.api.common.pagination.CursorRequestDto;
+import com.seethrough.api.common.pagination.CursorResponseDto;
 import com.seethrough.api.common.pagination.SliceResponseDto;
 import com.seethrough.api.ingredient.application.service.IngredientLogService;
+import com.seethrough.api.ingredient.presentation.dto.request.IngredientLogSimilarityRequest;
 import com.seethrough.api.ingredient.presentation.dto.response.IngredientLogListResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/ingredient-logs")
@@ -24,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 public class IngredientLogController {
 
 	private final IngredientLogService ingredientLogService;
+	private final ObjectMapper objectMapper;
 
 	@GetMapping()
 	@Operation(
@@ -67,4 +85,83 @@ public class IngredientLogController {
 		return ResponseEntity.ok(responseList);
 	}
 
+	@GetMapping("/cursor")
+	@Operation(
+		summary = "입출고 로그 목록 커서 조회",
+		description = "입출고 로그의 목록을 커서 기반 페이지네이션을 적용하여 반환합니다.<br>" +
+			"구성원 ID의 경우 비어있으면 전체 입출고 로그를, 그렇지 않다면 해당 구성원의 입출고 로그를 반환합니다.<br>" +
+			"커서가 비어있으면 첫 페이지를 반환하며, 이후에는 응답의 next_cursor를 그대로 전달하면 다음 페이지를 반환합니다.<br>" +
+			"페이지 위치와 관계없이 조회 비용이 일정하며, 조회 중 새로운 입출고가 발생해도 페이지가 밀리지 않습니다."
+	)
+	public ResponseEntity<CursorResponseDto<IngredientLogListResponse>> getIngredientLogListByCursor(
+		@Parameter(description = "구성원 ID")
+		@RequestParam(required = false) String memberId,
+
+		@Parameter(description = "이전 응답의 다음 페이지 커서 (비어있으면 첫 페이지)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "페이지당 항목 수 (최대 100)")
+		@RequestParam(defaultValue = "10")
+		@Min(value = 1, message = "size는 1 이상이어야 합니다")
+		@Max(value = CursorRequestDto.MAX_SIZE, message = "size는 100 이하여야 합니다") Integer size,
+
+		@Parameter(description = "정렬 기준 필드 (createdAt, ingredientName 중 하나, 그 외에는 400)")
+		@RequestParam(defaultValue = "createdAt") String sortBy,
+
+		@Parameter(description = "정렬 방향 (ASC: 오름차순, DESC: 내림차순)")
+		@RequestParam(defaultValue = "DESC") String sortDirection
+	) {
+		log.info("[Controller - GET /api/ingredient-logs/cursor] 입출고 로그 목록 커서 조회 요청: memberId={}, cursor={}, size={}, sortBy={}, sortDirection={}",
+			memberId, cursor, size, sortBy, sortDirection);
+
+		CursorResponseDto<IngredientLogListResponse> responseList =
+			ingredientLogService.getIngredientLogListByCursor(memberId, cursor, size, sortBy, sortDirection);
+
+		if (!responseList.getContent().isEmpty()) {
+			log.debug("[Controller] 첫 번째 응답 상세 정보:{}", responseList.getContent().get(0));
+		}
+
+		log.info("[Controller] 입출고 로그 목록 커서 조회 응답: 총 {}개 항목, 다음 페이지 존재 여부: {}",
+			responseList.getContent().size(),
+			responseList.getCursorInfo().getHasNext());
+
+		return ResponseEntity.ok(responseList);
+	}
+
+	@PostMapping(value = "/similar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(
+		summary = "유사 입출고 로그 검색",
+		description = "식재료 이름 또는 임베딩 벡터와 가장 유사한 과거 입출고 로그를 최대 k개 반환합니다.<br>" +
+			"임베딩 벡터의 HNSW 인덱스를 사용하며, 결과는 유사도 순으로 한 줄에 하나씩(NDJSON) 스트리밍됩니다.<br>" +
+			"구성원 ID를 지정하면 해당 구성원의 입출고 로그만 반환합니다.<br>" +
+			"ef_search를 지정하면 이번 검색에만 hnsw.ef_search가 적용되며, 값이 클수록 정확도가 높아지고 느려집니다.<br>" +
+			"구성원 필터로 결과가 k개보다 적게 나오는 경우 ef_search를 k보다 크게 지정하세요."
+	)
+	public ResponseEntity<StreamingResponseBody> searchSimilarIngredientLogs(@Valid @RequestBody IngredientLogSimilarityRequest request) {
+		log.info("[Controller - POST /api/ingredient-logs/similar] 유사 입출고 로그 검색 요청: {}", request);
+
+		// 구성원 확인과 임베딩 생성은 응답 헤더를 보내기 전에 수행하여 오류를 상태 코드로 돌려줌
+		IngredientLogService.SimilarIngredientLogQuery query = ingredientLogService.prepareSimilarIngredientLogQuery(request);
+
+		StreamingResponseBody body = outputStream -> {
+			if (query == null) {
+				return;
+			}
+
+			ingredientLogService.searchSimilarIngredientLogs(query, response -> {
+				try {
+					outputStream.write(objectMapper.writeValueAsBytes(response));
+					outputStream.write('\n');
+					outputStream.flush();
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		};
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(body);
+	}
 }
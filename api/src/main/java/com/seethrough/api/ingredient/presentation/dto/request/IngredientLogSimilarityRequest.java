@@ -0,0 +1,43 @@
+package com.seethrough.api.ingredient.presentation.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class IngredientLogSimilarityRequest {
+	private static final int EMBEDDING_DIMENSION = 1536;
+
+	private String name;
+
+	@ToString.Exclude
+	private float[] embedding;
+
+	private String memberId;
+
+	@Min(value = 1, message = "k는 1 이상이어야 합니다")
+	@Max(value = 100, message = "k는 100 이하여야 합니다")
+	private Integer k;
+
+	@Min(value = 1, message = "ef_search는 1 이상이어야 합니다")
+	@Max(value = 1000, message = "ef_search는 1000 이하여야 합니다")
+	private Integer efSearch;
+
+	@AssertTrue(message = "이름 또는 1536차원 임베딩 벡터 중 하나는 필수 입력값입니다")
+	public boolean isQueryPresent() {
+		if (embedding != null) {
+			return embedding.length == EMBEDDING_DIMENSION;
+		}
+
+		return name != null && !name.isBlank();
+	}
+
+	public int getK() {
+		return k == null ? 10 : k;
+	}
+}
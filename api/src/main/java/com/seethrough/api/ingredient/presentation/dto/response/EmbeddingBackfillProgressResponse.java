@@ -0,0 +1,28 @@
+package com.seethrough.api.ingredient.presentation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class EmbeddingBackfillProgressResponse {
+	private boolean running;
+	private LocalDateTime startedAt;
+	private List<TargetProgress> targets;
+
+	@Getter
+	@Builder
+	@ToString
+	public static class TargetProgress {
+		private String target;
+		private String checkpoint;
+		private long backlog;
+		private long processedRows;
+		private double rowsPerSecond;
+	}
+}
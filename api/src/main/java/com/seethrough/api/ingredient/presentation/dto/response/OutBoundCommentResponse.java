@@ -1,5 +1,7 @@
 package com.seethrough.api.ingredient.presentation.dto.response;
 
+import java.util.List;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -10,4 +12,5 @@ import lombok.ToString;
 public class OutBoundCommentResponse {
 	private String comment;
 	private boolean isDanger;
+	private List<OutBoundIngredientCommentResponse> comments;
 }
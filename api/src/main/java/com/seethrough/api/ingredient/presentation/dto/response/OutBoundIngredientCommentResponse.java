@@ -0,0 +1,15 @@
+package com.seethrough.api.ingredient.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class OutBoundIngredientCommentResponse {
+	private String ingredientId;
+	private String name;
+	private String comment;
+	private boolean isDanger;
+}
@@ -0,0 +1,13 @@
+package com.seethrough.api.ingredient.presentation.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class SimilarIngredientResponse {
+	private IngredientListResponse ingredient;
+	private double similarity;
+}
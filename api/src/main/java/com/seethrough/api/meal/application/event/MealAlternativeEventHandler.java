@@ -0,0 +1,47 @@
+package com.seethrough.api.meal.application.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.seethrough.api.meal.application.service.MealAlternativeService;
+import com.seethrough.api.meal.domain.event.MealsCreatedEvent;
+import com.seethrough.api.meal.infrastructure.cache.MealAlternativePool;
+import com.seethrough.api.member.domain.event.MemberFoodPreferenceChangedEvent;
+import com.seethrough.api.member.domain.event.MemberHealthInfoChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MealAlternativeEventHandler {
+
+	private final MealAlternativeService mealAlternativeService;
+	private final MealAlternativePool mealAlternativePool;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleFill(MealsCreatedEvent event) {
+		log.info("[MealAlternativeEventHandler] 식단 생성으로 대체 식사 생성 예약: memberId={}, servingDates={}",
+			event.getMemberId(), event.getServingDates());
+
+		mealAlternativeService.fill(event.getMemberId(), event.getServingDates());
+	}
+
+	// 알레르기/질병이 바뀌면 미리 만든 대체 식사가 맞지 않을 수 있으므로 모두 버립니다.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleInvalidation(MemberHealthInfoChangedEvent event) {
+		log.info("[MealAlternativeEventHandler] 구성원 건강 정보 변경으로 대체 식사 제거: memberId={}", event.getMemberId());
+
+		mealAlternativePool.evictMember(event.getMemberId());
+	}
+
+	// 선호/비선호 음식이 바뀌면 미리 만든 대체 식사에 싫어하는 음식이 들어 있을 수 있으므로 모두 버립니다.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleFoodPreferenceInvalidation(MemberFoodPreferenceChangedEvent event) {
+		log.info("[MealAlternativeEventHandler] 구성원 선호/비선호 음식 변경으로 대체 식사 제거: memberId={}", event.getMemberId());
+
+		mealAlternativePool.evictMember(event.getMemberId());
+	}
+}
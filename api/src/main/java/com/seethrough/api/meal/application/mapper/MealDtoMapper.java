@@ -1,9 +1,25 @@
 package com.seethrough.api.meal.application.mapper;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Component;
 
+import com.github.f4b6a3.uuid.UuidCreator;
 import com.seethrough.api.meal.domain.Meal;
+import com.seethrough.api.meal.domain.MealGenerationJob;
+import com.seethrough.api.meal.domain.ServingTime;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealListRequest;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealRequest;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.response.ScheduleMealListResponse;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.response.ScheduleMealResponse;
 import com.seethrough.api.meal.presentation.dto.response.MealDetailResponse;
+import com.seethrough.api.meal.presentation.dto.response.MealGenerationJobResponse;
 
 @Component
 public class MealDtoMapper {
@@ -18,4 +34,58 @@ public class MealDtoMapper {
 			.reason(meal.getReason())
 			.build();
 	}
+
+	public MealGenerationJobResponse toJobResponse(MealGenerationJob job) {
+		return MealGenerationJobResponse.builder()
+			.jobId(job.getJobId().toString())
+			.memberId(job.getMemberId().toString())
+			.startDate(job.getStartDate())
+			.endDate(job.getEndDate())
+			.status(job.getStatus().name())
+			.totalDates(job.getTotalDates())
+			.completedDates(job.getCompletedDates())
+			.errorMessage(job.getErrorMessage())
+			.createdAt(job.getCreatedAt())
+			.finishedAt(job.getFinishedAt())
+			.build();
+	}
+
+	public ScheduleMealListRequest toScheduleMealListRequest(UUID memberIdObj, List<LocalDate> dateList) {
+		return ScheduleMealListRequest.builder()
+			.memberId(memberIdObj.toString())
+			.schedules(
+				dateList.stream()
+					.flatMap(date -> Arrays.stream(ServingTime.values())
+						.map(servingTime -> ScheduleMealRequest.builder()
+							.mealId(UuidCreator.getTimeOrderedEpoch().toString())
+							.servingDate(date)
+							.servingTime(servingTime.getName())
+							.build())
+					)
+					.toList()
+			)
+			.build();
+	}
+
+	public List<Meal> toMeals(UUID memberIdObj, ScheduleMealListRequest request, ScheduleMealListResponse response) {
+		Map<String, ScheduleMealRequest> requestMap = request.getSchedules().stream()
+			.collect(Collectors.toMap(ScheduleMealRequest::getMealId, Function.identity()));
+
+		return response.getSchedules()
+			.stream()
+			.filter(schedule -> requestMap.containsKey(schedule.getMealId()))
+			.map(schedule -> toMeal(memberIdObj, requestMap.get(schedule.getMealId()), schedule))
+			.toList();
+	}
+
+	public Meal toMeal(UUID memberIdObj, ScheduleMealRequest mealRequest, ScheduleMealResponse schedule) {
+		return Meal.builder()
+			.mealId(UUID.fromString(schedule.getMealId()))
+			.memberId(memberIdObj)
+			.servingDate(mealRequest.getServingDate())
+			.servingTime(ServingTime.fromName(mealRequest.getServingTime()))
+			.menu(schedule.getMenu())
+			.reason(schedule.getReason())
+			.build();
+	}
 }
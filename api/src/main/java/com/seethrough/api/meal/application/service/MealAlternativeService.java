@@ -0,0 +1,123 @@
+package com.seethrough.api.meal.application.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.seethrough.api.meal.domain.ServingTime;
+import com.seethrough.api.meal.infrastructure.cache.MealAlternativePool;
+import com.seethrough.api.meal.infrastructure.external.llm.LlmApiMealService;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealListRequest;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealRequest;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.response.ScheduleMealListResponse;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.response.ScheduleMealResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식단 새로고침용 대체 식사를 백그라운드에서 만들어 MealAlternativePool 에 채웁니다.
+ * 식단이 새로 생성되면 해당 날짜의 모든 식사 시간을, 새로고침으로 하나를 꺼내 쓰면 그 슬롯만 다시 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MealAlternativeService {
+
+	private final MealAlternativePool mealAlternativePool;
+	private final LlmApiMealService llmApiMealService;
+	private final ThreadPoolTaskExecutor mealAlternativeTaskExecutor;
+
+	@Value("${meal.alternative-pool.fill-days:3}")
+	private int fillDays;
+
+	/**
+	 * 오늘부터 fill-days 일 안의 날짜만 채웁니다. 먼 날짜는 새로고침 시점에 topUp 으로 채워집니다.
+	 */
+	public void fill(UUID memberId, List<LocalDate> servingDates) {
+		LocalDate lastFillDate = LocalDate.now().plusDays(fillDays - 1);
+
+		List<LocalDate> fillDates = servingDates.stream()
+			.filter(servingDate -> !servingDate.isAfter(lastFillDate))
+			.toList();
+
+		if (!fillDates.isEmpty()) {
+			submit(memberId, fillDates, Arrays.asList(ServingTime.values()));
+		}
+	}
+
+	public void topUp(UUID memberId, LocalDate servingDate, ServingTime servingTime) {
+		submit(memberId, List.of(servingDate), List.of(servingTime));
+	}
+
+	private void submit(UUID memberId, List<LocalDate> servingDates, List<ServingTime> servingTimes) {
+		try {
+			mealAlternativeTaskExecutor.execute(() -> generate(memberId, servingDates, servingTimes));
+		}
+		catch (TaskRejectedException e) {
+			log.warn("[MealAlternativeService] 대체 식사 생성 대기열 초과로 건너뜀: memberId={}, servingDates={}", memberId, servingDates);
+		}
+	}
+
+	private void generate(UUID memberId, List<LocalDate> servingDates, List<ServingTime> servingTimes) {
+		long startedAt = System.currentTimeMillis();
+		long version = mealAlternativePool.version(memberId);
+		LocalDate today = LocalDate.now();
+
+		List<ScheduleMealRequest> schedules = new ArrayList<>();
+
+		servingDates.stream()
+			.filter(servingDate -> !servingDate.isBefore(today))
+			.forEach(servingDate -> servingTimes.forEach(servingTime -> {
+				int missingCount = mealAlternativePool.missingCount(memberId, servingDate, servingTime);
+
+				for (int idx = 0; idx < missingCount; idx++) {
+					schedules.add(ScheduleMealRequest.of(UuidCreator.getTimeOrderedEpoch().toString(), servingDate, servingTime.getName()));
+				}
+			}));
+
+		if (schedules.isEmpty()) {
+			return;
+		}
+
+		Map<String, ScheduleMealRequest> requestMap = schedules.stream()
+			.collect(Collectors.toMap(ScheduleMealRequest::getMealId, Function.identity()));
+
+		int added = 0;
+
+		try {
+			ScheduleMealListRequest request = ScheduleMealListRequest.of(memberId.toString(), schedules);
+
+			for (ScheduleMealListResponse response : llmApiMealService.createMealListInChunks(request).toIterable()) {
+				for (ScheduleMealResponse schedule : response.getSchedules()) {
+					ScheduleMealRequest mealRequest = requestMap.get(schedule.getMealId());
+
+					if (mealRequest == null || schedule.getMenu() == null || schedule.getMenu().isEmpty()) {
+						continue;
+					}
+
+					mealAlternativePool.add(memberId, version, mealRequest.getServingDate(), ServingTime.fromName(mealRequest.getServingTime()),
+						new MealAlternativePool.Alternative(schedule.getMenu(), schedule.getReason()));
+					added++;
+				}
+			}
+		}
+		catch (Exception e) {
+			log.warn("[MealAlternativeService] 대체 식사 생성 실패: memberId={}, error={}", memberId, e.getMessage());
+		}
+
+		log.info("[MealAlternativeService] 대체 식사 생성: memberId={}, 요청 {} 개, 추가 {} 개, 소요 {} ms",
+			memberId, schedules.size(), added, System.currentTimeMillis() - startedAt);
+	}
+}
@@ -0,0 +1,277 @@
+package com.seethrough.api.meal.application.service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.seethrough.api.meal.application.mapper.DailyMealDtoMapper;
+import com.seethrough.api.meal.application.mapper.MealDtoMapper;
+import com.seethrough.api.meal.domain.DailyMeal;
+import com.seethrough.api.meal.domain.Meal;
+import com.seethrough.api.meal.domain.MealGenerationJob;
+import com.seethrough.api.meal.exception.MealGenerationJobNotFoundException;
+import com.seethrough.api.meal.infrastructure.external.llm.LlmApiMealService;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealListRequest;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.response.ScheduleMealListResponse;
+import com.seethrough.api.meal.presentation.dto.request.CreateMealsForPeriodRequest;
+import com.seethrough.api.meal.presentation.dto.response.DailyMealResponse;
+import com.seethrough.api.meal.presentation.dto.response.MealGenerationJobResponse;
+import com.seethrough.api.member.application.service.MemberService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식단 생성을 요청 스레드에서 분리해 mealTaskExecutor 에서 실행합니다.
+ * 요청은 작업 ID 를 바로 돌려받고, 상태 조회나 SSE 로 날짜별 식단이 저장되는 대로 받아 볼 수 있습니다.
+ * 같은 구성원, 같은 기간의 요청이 진행 중이면 새 작업을 만들지 않고 진행 중인 작업을 돌려줍니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MealGenerationJobService {
+
+	private static final int MEAL_GENERATION_DAYS = 7;
+
+	private final MemberService memberService;
+	private final MealService mealService;
+	private final LlmApiMealService llmApiMealService;
+	private final MealDtoMapper mealDtoMapper;
+	private final DailyMealDtoMapper dailyMealDtoMapper;
+	private final ThreadPoolTaskExecutor mealTaskExecutor;
+
+	@Value("${meal.job.sse-timeout-ms:180000}")
+	private long sseTimeoutMs;
+
+	@Value("${meal.job.retention-minutes:30}")
+	private long retentionMinutes;
+
+	private final Map<UUID, MealGenerationJob> jobs = new ConcurrentHashMap<>();
+	private final Map<String, MealGenerationJob> activeJobs = new ConcurrentHashMap<>();
+	private final Map<UUID, List<DailyMealResponse>> dailyMealsByJob = new ConcurrentHashMap<>();
+	private final Map<UUID, List<SseEmitter>> emittersByJob = new ConcurrentHashMap<>();
+
+	public MealGenerationJobResponse submitWeeklyJob(String memberId) {
+		log.debug("[Service] submitWeeklyJob 호출");
+
+		LocalDate today = LocalDate.now();
+
+		return submitJob(memberId, today, today.plusDays(MEAL_GENERATION_DAYS - 1));
+	}
+
+	public MealGenerationJobResponse submitPeriodJob(String memberId, CreateMealsForPeriodRequest request) {
+		log.debug("[Service] submitPeriodJob 호출");
+
+		return submitJob(memberId, request.getStartDate(), request.getEndDate());
+	}
+
+	public MealGenerationJobResponse getJob(String jobId) {
+		log.debug("[Service] getJob 호출");
+
+		return mealDtoMapper.toJobResponse(findJob(jobId));
+	}
+
+	/**
+	 * 이미 저장된 날짜의 식단과 현재 상태를 먼저 보낸 뒤, 이후 저장되는 식단을 이어서 보냅니다.
+	 * 이벤트: daily-meal (DailyMealResponse), status (MealGenerationJobResponse, 작업이 끝나면 스트림 종료)
+	 */
+	public SseEmitter subscribe(String jobId) {
+		log.debug("[Service] subscribe 호출");
+
+		MealGenerationJob job = findJob(jobId);
+		SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
+		emitter.onCompletion(() -> removeEmitter(job.getJobId(), emitter));
+		emitter.onTimeout(() -> removeEmitter(job.getJobId(), emitter));
+		emitter.onError(e -> removeEmitter(job.getJobId(), emitter));
+
+		synchronized (job) {
+			try {
+				for (DailyMealResponse dailyMeal : dailyMealsByJob.getOrDefault(job.getJobId(), List.of())) {
+					emitter.send(SseEmitter.event().name("daily-meal").data(dailyMeal));
+				}
+				emitter.send(SseEmitter.event().name("status").data(mealDtoMapper.toJobResponse(job)));
+
+				if (job.isFinished()) {
+					emitter.complete();
+				}
+				else {
+					emittersByJob.computeIfAbsent(job.getJobId(), id -> new CopyOnWriteArrayList<>()).add(emitter);
+				}
+			}
+			catch (IOException e) {
+				emitter.completeWithError(e);
+			}
+		}
+
+		return emitter;
+	}
+
+	private MealGenerationJobResponse submitJob(String memberId, LocalDate startDate, LocalDate endDate) {
+		UUID memberIdObj = memberService.checkMemberExists(memberId);
+
+		String key = MealGenerationJob.key(memberIdObj, startDate, endDate);
+		MealGenerationJob newJob = new MealGenerationJob(UuidCreator.getTimeOrderedEpoch(), memberIdObj, startDate, endDate);
+
+		MealGenerationJob job = activeJobs.computeIfAbsent(key, k -> {
+			jobs.put(newJob.getJobId(), newJob);
+			return newJob;
+		});
+
+		if (job != newJob) {
+			log.info("[MealGenerationJobService] 진행 중인 식단 생성 작업에 합류: jobId={}, key={}", job.getJobId(), key);
+
+			return mealDtoMapper.toJobResponse(job);
+		}
+
+		try {
+			mealTaskExecutor.execute(() -> run(newJob));
+
+			log.info("[MealGenerationJobService] 식단 생성 작업 등록: jobId={}, key={}", newJob.getJobId(), key);
+		}
+		catch (TaskRejectedException e) {
+			log.warn("[MealGenerationJobService] 식단 생성 작업 대기열 초과: jobId={}", newJob.getJobId());
+
+			newJob.fail("대기 중인 식단 생성 작업이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+			activeJobs.remove(key, newJob);
+		}
+
+		return mealDtoMapper.toJobResponse(newJob);
+	}
+
+	private void run(MealGenerationJob job) {
+		long startedAt = System.currentTimeMillis();
+
+		try {
+			List<LocalDate> missingDates = mealService.findMissingDatesBetween(job.getMemberId(), job.getStartDate(), job.getEndDate());
+
+			job.start(missingDates.size());
+			publishStatus(job);
+
+			if (!missingDates.isEmpty()) {
+				ScheduleMealListRequest request = mealDtoMapper.toScheduleMealListRequest(job.getMemberId(), missingDates);
+
+				// 날짜별 응답이 오는 대로 작업 스레드에서 저장하고 구독자에게 보냅니다.
+				for (ScheduleMealListResponse response : llmApiMealService.createMealListInChunks(request).toIterable()) {
+					List<Meal> savedMeals = mealService.saveGeneratedMeals(job.getMemberId(), mealDtoMapper.toMeals(job.getMemberId(), request, response));
+
+					savedMeals.stream()
+						.collect(Collectors.groupingBy(Meal::getServingDate))
+						.values()
+						.forEach(meals -> publishDailyMeal(job, DailyMeal.createDailyMealFrom(meals)));
+				}
+			}
+
+			job.finish();
+		}
+		catch (Exception e) {
+			log.error("[MealGenerationJobService] 식단 생성 작업 실패: jobId={}", job.getJobId(), e);
+
+			job.fail(e.getMessage());
+		}
+		finally {
+			activeJobs.remove(job.getKey(), job);
+			publishStatus(job);
+			completeEmitters(job);
+
+			log.info("[MealGenerationJobService] 식단 생성 작업 종료: jobId={}, status={}, 완료 날짜 {} / {}, 소요 {} ms",
+				job.getJobId(), job.getStatus(), job.getCompletedDates().size(), job.getTotalDates(),
+				System.currentTimeMillis() - startedAt);
+		}
+	}
+
+	private void publishDailyMeal(MealGenerationJob job, DailyMeal dailyMeal) {
+		DailyMealResponse response = dailyMealDtoMapper.toDailyResponse(dailyMeal);
+
+		synchronized (job) {
+			job.addCompletedDate(dailyMeal.getServingDate());
+			dailyMealsByJob.computeIfAbsent(job.getJobId(), id -> new ArrayList<>()).add(response);
+
+			send(job, "daily-meal", response);
+		}
+	}
+
+	private void publishStatus(MealGenerationJob job) {
+		synchronized (job) {
+			send(job, "status", mealDtoMapper.toJobResponse(job));
+		}
+	}
+
+	private void send(MealGenerationJob job, String eventName, Object data) {
+		emittersByJob.getOrDefault(job.getJobId(), List.of()).forEach(emitter -> {
+			try {
+				emitter.send(SseEmitter.event().name(eventName).data(data));
+			}
+			catch (IOException | IllegalStateException e) {
+				log.debug("[MealGenerationJobService] SSE 전송 실패로 구독 해제: jobId={}, error={}", job.getJobId(), e.getMessage());
+				removeEmitter(job.getJobId(), emitter);
+			}
+		});
+	}
+
+	private void completeEmitters(MealGenerationJob job) {
+		synchronized (job) {
+			List<SseEmitter> emitters = emittersByJob.remove(job.getJobId());
+
+			if (emitters != null) {
+				emitters.forEach(SseEmitter::complete);
+			}
+		}
+	}
+
+	private void removeEmitter(UUID jobId, SseEmitter emitter) {
+		List<SseEmitter> emitters = emittersByJob.get(jobId);
+
+		if (emitters != null) {
+			emitters.remove(emitter);
+		}
+	}
+
+	private MealGenerationJob findJob(String jobId) {
+		UUID jobIdObj;
+		try {
+			jobIdObj = UUID.fromString(jobId);
+		}
+		catch (IllegalArgumentException e) {
+			throw new MealGenerationJobNotFoundException("식단 생성 작업을 찾을 수 없습니다.");
+		}
+
+		MealGenerationJob job = jobs.get(jobIdObj);
+
+		if (job == null) {
+			throw new MealGenerationJobNotFoundException("식단 생성 작업을 찾을 수 없습니다.");
+		}
+
+		return job;
+	}
+
+	@Scheduled(fixedDelayString = "${meal.job.cleanup-interval-ms:300000}")
+	public void removeFinishedJobs() {
+		LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+
+		jobs.values().removeIf(job -> {
+			boolean expired = job.isFinished() && job.getFinishedAt().isBefore(cutoff);
+
+			if (expired) {
+				dailyMealsByJob.remove(job.getJobId());
+			}
+
+			return expired;
+		});
+	}
+}
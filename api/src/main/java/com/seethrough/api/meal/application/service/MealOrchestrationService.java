@@ -1,18 +1,39 @@
 package com.seethrough.api.meal.application.service;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.seethrough.api.meal.application.mapper.MealDtoMapper;
+import com.seethrough.api.meal.domain.DailyMeal;
+import com.seethrough.api.meal.infrastructure.external.llm.LlmApiMealService;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealListRequest;
 import com.seethrough.api.member.application.service.MemberService;
 import com.seethrough.api.member.domain.Member;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * 최근 로그인한 구성원의 일주일 식단을 채우는 주간 작업입니다.
+ * 구성원마다 빈 날짜 조회 -> LLM 식단 생성 -> 저장을 하나의 흐름으로 묶어 최대 concurrency 명씩 동시에 처리합니다.
+ * LLM 요청 동안에는 트랜잭션을 열지 않고, 저장만 구성원별 트랜잭션으로 실행하므로 한 구성원의 실패가 다른 구성원에게 번지지 않습니다.
+ * 식단은 날짜별로 나눠 요청하고(LlmApiMealService.createMealListInChunks), 실패한 날짜만 다시 요청합니다.
+ */
 @Slf4j
 @Service
 @Transactional(readOnly = true)
@@ -23,18 +44,135 @@ public class MealOrchestrationService {
 
 	private final MemberService memberService;
 	private final MealService mealService;
+	private final LlmApiMealService llmApiMealService;
+	private final MealDtoMapper mealDtoMapper;
 
-	@Transactional
+	@Value("${meal.generation.concurrency:4}")
+	private int concurrency;
+
+	@Value("${meal.generation.member-timeout-seconds:300}")
+	private long memberTimeoutSeconds;
+
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void generateMealsForAllMembers() {
 		log.debug("[Service] generateMealsForAllMembers 호출");
 
-		LocalDateTime cutoffDate = LocalDateTime.now().minusDays(MEAL_GENERATION_INACTIVITY_DAYS);
+		if (!running.compareAndSet(false, true)) {
+			log.info("[MealOrchestrationService] 이전 식단 생성 작업이 진행 중이므로 건너뜁니다.");
+			return;
+		}
+
+		long startedAt = System.currentTimeMillis();
+
+		try {
+			LocalDateTime cutoffDate = LocalDateTime.now().minusDays(MEAL_GENERATION_INACTIVITY_DAYS);
+
+			List<UUID> memberIds = memberService.findMembersByLastLoginAtAfter(cutoffDate).stream()
+				.map(Member::getMemberId)
+				.toList();
+
+			log.info("[MealOrchestrationService] 식단 생성 시작: 대상 구성원 {} 명, 동시 처리 {} 명", memberIds.size(), concurrency);
+
+			List<MemberResult> results = Flux.fromIterable(memberIds)
+				.flatMap(this::generateMeals, concurrency)
+				.collectList()
+				.block();
+
+			logSummary(memberIds.size(), results == null ? List.of() : results, System.currentTimeMillis() - startedAt);
+		}
+		catch (Exception e) {
+			log.error("[MealOrchestrationService] 식단 생성 실패: 소요 {} ms", System.currentTimeMillis() - startedAt, e);
+		}
+		finally {
+			running.set(false);
+		}
+	}
+
+	private Mono<MemberResult> generateMeals(UUID memberId) {
+		long startedAt = System.currentTimeMillis();
+
+		return Mono.fromCallable(() -> mealService.findWeeklyMissingDates(memberId))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(missingDates -> {
+				if (missingDates.isEmpty()) {
+					return Mono.just(MemberResult.skipped(memberId, System.currentTimeMillis() - startedAt));
+				}
+
+				int expectedMeals = missingDates.size() * DailyMeal.DAILY_MEAL_SIZE;
+
+				return requestAndSaveMeals(memberId, missingDates)
+					.map(saved -> MemberResult.of(memberId, saved, expectedMeals, System.currentTimeMillis() - startedAt));
+			})
+			.onErrorResume(e -> {
+				log.warn("[MealOrchestrationService] 구성원 식단 생성 실패: memberId={}, error={}", memberId, e.getMessage());
+				return Mono.just(MemberResult.failed(memberId, System.currentTimeMillis() - startedAt));
+			});
+	}
+
+	/**
+	 * 날짜별 응답이 올 때마다 바로 저장하므로, 구성원 타임아웃에 걸려도 이미 받은 날짜는 남습니다.
+	 * @return 저장한 식사 수
+	 */
+	private Mono<Integer> requestAndSaveMeals(UUID memberId, List<LocalDate> missingDates) {
+		ScheduleMealListRequest request = mealDtoMapper.toScheduleMealListRequest(memberId, missingDates);
+
+		return llmApiMealService.createMealListInChunks(request)
+			.publishOn(Schedulers.boundedElastic())
+			.map(response -> mealService.saveGeneratedMeals(memberId, mealDtoMapper.toMeals(memberId, request, response)).size())
+			.take(Duration.ofSeconds(memberTimeoutSeconds))
+			.reduce(0, Integer::sum);
+	}
+
+	private void logSummary(int total, List<MemberResult> results, long elapsedMs) {
+		long succeeded = results.stream().filter(result -> result.getStatus() == Status.SUCCEEDED).count();
+		long partial = results.stream().filter(result -> result.getStatus() == Status.PARTIAL).count();
+		long skipped = results.stream().filter(result -> result.getStatus() == Status.SKIPPED).count();
+		long failed = results.stream().filter(result -> result.getStatus() == Status.FAILED).count();
+		int savedMeals = results.stream().mapToInt(MemberResult::getSavedMeals).sum();
+		long slowestMs = results.stream().mapToLong(MemberResult::getElapsedMs).max().orElse(0);
+		double membersPerMinute = elapsedMs == 0 ? 0 : results.size() * 60_000.0 / elapsedMs;
+
+		log.info("[MealOrchestrationService] 식단 생성 완료: 대상 {} 명, 성공 {} 명, 일부 성공 {} 명, 건너뜀 {} 명, 실패 {} 명, 저장 식사 {} 개, "
+				+ "소요 {} ms, 가장 느린 구성원 {} ms, 처리량 {} 명/분",
+			total, succeeded, partial, skipped, failed, savedMeals, elapsedMs, slowestMs, String.format("%.1f", membersPerMinute));
+
+		if (failed > 0) {
+			log.warn("[MealOrchestrationService] 식단 생성 실패 구성원: {}", results.stream()
+				.filter(result -> result.getStatus() == Status.FAILED)
+				.map(MemberResult::getMemberId)
+				.toList());
+		}
+	}
+
+	private enum Status {
+		SUCCEEDED, PARTIAL, SKIPPED, FAILED
+	}
+
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	private static class MemberResult {
+		private final UUID memberId;
+		private final Status status;
+		private final int savedMeals;
+		private final long elapsedMs;
+
+		static MemberResult of(UUID memberId, int savedMeals, int expectedMeals, long elapsedMs) {
+			if (savedMeals == 0) {
+				return new MemberResult(memberId, Status.FAILED, 0, elapsedMs);
+			}
+
+			Status status = savedMeals < expectedMeals ? Status.PARTIAL : Status.SUCCEEDED;
+			return new MemberResult(memberId, status, savedMeals, elapsedMs);
+		}
 
-		List<Member> members = memberService.findMembersByLastLoginAtAfter(cutoffDate);
+		static MemberResult skipped(UUID memberId, long elapsedMs) {
+			return new MemberResult(memberId, Status.SKIPPED, 0, elapsedMs);
+		}
 
-		members.stream()
-			.map(Member::getMemberId)
-			.map(UUID::toString)
-			.forEach(mealService::createMeals);
+		static MemberResult failed(UUID memberId, long elapsedMs) {
+			return new MemberResult(memberId, Status.FAILED, 0, elapsedMs);
+		}
 	}
 }
@@ -2,25 +2,26 @@ package com.seethrough.api.meal.application.service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.github.f4b6a3.uuid.UuidCreator;
 import com.seethrough.api.meal.application.mapper.DailyMealDtoMapper;
 import com.seethrough.api.meal.application.mapper.MealDtoMapper;
 import com.seethrough.api.meal.domain.DailyMeal;
 import com.seethrough.api.meal.domain.Meal;
 import com.seethrough.api.meal.domain.MealRepository;
 import com.seethrough.api.meal.domain.ServingTime;
+import com.seethrough.api.meal.domain.event.MealsCreatedEvent;
 import com.seethrough.api.meal.exception.MealNotFoundException;
+import com.seethrough.api.meal.infrastructure.cache.MealAlternativePool;
 import com.seethrough.api.meal.infrastructure.external.llm.LlmApiMealService;
 import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealListRequest;
 import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealRequest;
@@ -38,11 +39,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MealService {
 
+	private static final int MEAL_GENERATION_DAYS = 7;
+
 	private final MealRepository mealRepository;
 	private final DailyMealDtoMapper dailyMealDtoMapper;
 	private final MemberService memberService;
 	private final LlmApiMealService llmApiMealService;
 	private final MealDtoMapper mealDtoMapper;
+	private final MealAlternativePool mealAlternativePool;
+	private final MealAlternativeService mealAlternativeService;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final TransactionTemplate transactionTemplate;
 
 	public DailyMealResponse getDailyMeal(String memberId, LocalDate servingDate) {
 		log.debug("[Service] getDailyMeal 호출");
@@ -60,12 +67,7 @@ public class MealService {
 
 		UUID memberIdObj = memberService.checkMemberExists(memberId);
 
-		LocalDate today = LocalDate.now();
-		LocalDate endDate = today.plusDays(6);
-
-		List<DailyMeal> dailyMealList = findDailyMeals(memberIdObj, today, endDate);
-
-		List<LocalDate> missingDateList = findMissingDates(dailyMealList, today, endDate);
+		List<LocalDate> missingDateList = findWeeklyMissingDates(memberIdObj);
 
 		if (missingDateList.isEmpty()) {
 			log.debug("[Service] 식단 생성 필요 없음");
@@ -80,6 +82,61 @@ public class MealService {
 		return true;
 	}
 
+	/**
+	 * 오늘부터 7일 중 식단이 없는 날짜를 반환합니다.
+	 */
+	public List<LocalDate> findWeeklyMissingDates(UUID memberIdObj) {
+		log.debug("[Service] findWeeklyMissingDates 호출");
+
+		LocalDate today = LocalDate.now();
+
+		return findMissingDatesBetween(memberIdObj, today, today.plusDays(MEAL_GENERATION_DAYS - 1));
+	}
+
+	public List<LocalDate> findMissingDatesBetween(UUID memberIdObj, LocalDate startDate, LocalDate endDate) {
+		log.debug("[Service] findMissingDatesBetween 호출");
+
+		List<DailyMeal> dailyMealList = findDailyMeals(memberIdObj, startDate, endDate);
+
+		return findMissingDates(dailyMealList, startDate, endDate);
+	}
+
+	/**
+	 * LLM 으로 만든 식단을 저장합니다. 요청 이후 다른 경로로 식단이 생긴 날짜는 건너뜁니다.
+	 * @return 저장한 식사
+	 */
+	@Transactional
+	public List<Meal> saveGeneratedMeals(UUID memberIdObj, List<Meal> meals) {
+		log.debug("[Service] saveGeneratedMeals 호출");
+
+		if (meals.isEmpty()) {
+			return List.of();
+		}
+
+		LocalDate startDate = meals.stream().map(Meal::getServingDate).min(LocalDate::compareTo).orElseThrow();
+		LocalDate endDate = meals.stream().map(Meal::getServingDate).max(LocalDate::compareTo).orElseThrow();
+
+		Set<LocalDate> existingDates = findDailyMeals(memberIdObj, startDate, endDate).stream()
+			.map(DailyMeal::getServingDate)
+			.collect(Collectors.toSet());
+
+		// 아침, 점심, 저녁이 모두 있는 날짜만 저장해야 하루 식단 조회가 깨지지 않습니다.
+		List<Meal> newMeals = meals.stream()
+			.filter(meal -> !existingDates.contains(meal.getServingDate()))
+			.collect(Collectors.groupingBy(Meal::getServingDate))
+			.values()
+			.stream()
+			.filter(dailyMeals -> dailyMeals.stream().map(Meal::getServingTime).distinct().count() == DailyMeal.DAILY_MEAL_SIZE)
+			.flatMap(List::stream)
+			.toList();
+
+		mealRepository.saveAll(newMeals);
+
+		publishMealsCreatedEvent(memberIdObj, newMeals);
+
+		return newMeals;
+	}
+
 	@Transactional
 	public void createMealsForPeriod(String memberId, CreateMealsForPeriodRequest request) {
 		log.debug("[Service] createMealsForPeriod 호출");
@@ -101,7 +158,11 @@ public class MealService {
 		saveMeals(memberIdObj, missingDateList);
 	}
 
-	@Transactional
+	/**
+	 * 대체 식사 풀에 남은 식사가 있으면 LLM 요청 없이 바로 교체하고, 꺼낸 슬롯은 백그라운드에서 다시 채웁니다.
+	 * 풀이 비어 있을 때만 LLM 에 요청하며, 요청하는 동안에는 트랜잭션을 열지 않습니다.
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public MealDetailResponse refreshMeal(String mealId) {
 		log.debug("[Service] refreshMeal 호출");
 
@@ -109,11 +170,27 @@ public class MealService {
 
 		Meal meal = findMeal(mealIdObj);
 
-		Meal newMeal = createMeal(mealIdObj, meal.getMemberId(), meal.getServingDate(), meal.getServingTime());
+		MealAlternativePool.Alternative alternative = mealAlternativePool
+			.poll(meal.getMemberId(), meal.getServingDate(), meal.getServingTime(), meal.getMenu())
+			.orElseGet(() -> {
+				log.debug("[Service] 대체 식사 없음, 식단 생성 호출");
+
+				Meal newMeal = createMeal(mealIdObj, meal.getMemberId(), meal.getServingDate(), meal.getServingTime());
+
+				return new MealAlternativePool.Alternative(newMeal.getMenu(), newMeal.getReason());
+			});
 
-		meal.update(newMeal.getMenu(), newMeal.getReason());
+		Meal refreshedMeal = transactionTemplate.execute(status -> {
+			Meal target = findMeal(mealIdObj);
 
-		return mealDtoMapper.toDetailResponse(meal);
+			target.update(alternative.getMenu(), alternative.getReason());
+
+			return target;
+		});
+
+		mealAlternativeService.topUp(meal.getMemberId(), meal.getServingDate(), meal.getServingTime());
+
+		return mealDtoMapper.toDetailResponse(refreshedMeal);
 	}
 
 	private Meal findMeal(UUID mealIdObj) {
@@ -166,6 +243,19 @@ public class MealService {
 		List<Meal> meals = createMeals(memberIdObj, dateList);
 
 		mealRepository.saveAll(meals);
+
+		publishMealsCreatedEvent(memberIdObj, meals);
+	}
+
+	private void publishMealsCreatedEvent(UUID memberIdObj, List<Meal> meals) {
+		if (meals.isEmpty()) {
+			return;
+		}
+
+		applicationEventPublisher.publishEvent(MealsCreatedEvent.builder()
+			.memberId(memberIdObj)
+			.servingDates(meals.stream().map(Meal::getServingDate).distinct().sorted().toList())
+			.build());
 	}
 
 	private Meal createMeal(UUID mealIdObj, UUID memberIdObj, LocalDate servingDate, ServingTime servingTime) {
@@ -195,46 +285,8 @@ public class MealService {
 	}
 
 	private List<Meal> createMeals(UUID memberIdObj, List<LocalDate> dateList) {
-		Map<UUID, ScheduleMealRequest> requestMap = new HashMap<>();
-
-		ScheduleMealListRequest request = ScheduleMealListRequest.builder()
-			.memberId(memberIdObj.toString())
-			.schedules(
-				dateList.stream()
-					.flatMap(date -> Arrays.stream(ServingTime.values())
-						.map(servingTime -> {
-							UUID mealId = UuidCreator.getTimeOrderedEpoch();
-
-							ScheduleMealRequest mealRequest = ScheduleMealRequest.builder()
-								.mealId(mealId.toString())
-								.servingDate(date)
-								.servingTime(servingTime.getName())
-								.build();
-
-							requestMap.put(mealId, mealRequest);
-							return mealRequest;
-						})
-					)
-					.toList()
-			)
-			.build();
+		ScheduleMealListRequest request = mealDtoMapper.toScheduleMealListRequest(memberIdObj, dateList);
 
-		return llmApiMealService.createMealList(request)
-			.getSchedules()
-			.stream()
-			.map(schedule -> {
-				UUID mealId = UUID.fromString(schedule.getMealId());
-				ScheduleMealRequest mealRequest = requestMap.get(mealId);
-
-				return Meal.builder()
-					.mealId(mealId)
-					.memberId(memberIdObj)
-					.servingDate(mealRequest.getServingDate())
-					.servingTime(ServingTime.fromName(mealRequest.getServingTime()))
-					.menu(schedule.getMenu())
-					.reason(schedule.getReason())
-					.build();
-			})
-			.toList();
+		return mealDtoMapper.toMeals(memberIdObj, request, llmApiMealService.createMealList(request));
 	}
 }
@@ -0,0 +1,173 @@
+package com.seethrough.api.meal.application.service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.seethrough.api.meal.application.mapper.DailyMealDtoMapper;
+import com.seethrough.api.meal.application.mapper.MealDtoMapper;
+import com.seethrough.api.meal.domain.DailyMeal;
+import com.seethrough.api.meal.domain.Meal;
+import com.seethrough.api.meal.infrastructure.external.llm.LlmApiMealService;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealListRequest;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealRequest;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.response.ScheduleMealResponse;
+import com.seethrough.api.member.application.service.MemberService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 이 식사를 하나 만들 때마다 바로 SSE 로 전달하는 일주일 식단 생성입니다.
+ * 식사는 도착 즉시 meal 이벤트로 보내고, 하루(아침, 점심, 저녁)가 모두 모이면 저장한 뒤 daily-meal 이벤트로 보냅니다.
+ * 클라이언트 연결이 끊겨도 생성과 저장은 끝까지 진행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MealStreamService {
+
+	private final MemberService memberService;
+	private final MealService mealService;
+	private final LlmApiMealService llmApiMealService;
+	private final MealDtoMapper mealDtoMapper;
+	private final DailyMealDtoMapper dailyMealDtoMapper;
+	private final ThreadPoolTaskExecutor mealTaskExecutor;
+
+	@Value("${meal.stream.sse-timeout-ms:300000}")
+	private long sseTimeoutMs;
+
+	public SseEmitter streamWeeklyMeals(String memberId) {
+		log.debug("[Service] streamWeeklyMeals 호출");
+
+		UUID memberIdObj = memberService.checkMemberExists(memberId);
+		SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
+		try {
+			mealTaskExecutor.execute(() -> stream(memberIdObj, new MealStream(emitter)));
+		}
+		catch (TaskRejectedException e) {
+			log.warn("[MealStreamService] 식단 스트리밍 대기열 초과: memberId={}", memberId);
+
+			emitter.completeWithError(e);
+		}
+
+		return emitter;
+	}
+
+	private void stream(UUID memberIdObj, MealStream mealStream) {
+		long startedAt = System.currentTimeMillis();
+		int savedMeals = 0;
+
+		try {
+			List<LocalDate> missingDates = mealService.findWeeklyMissingDates(memberIdObj);
+
+			if (!missingDates.isEmpty()) {
+				ScheduleMealListRequest request = mealDtoMapper.toScheduleMealListRequest(memberIdObj, missingDates);
+
+				Map<String, ScheduleMealRequest> requestMap = request.getSchedules().stream()
+					.collect(Collectors.toMap(ScheduleMealRequest::getMealId, Function.identity()));
+
+				Map<LocalDate, List<Meal>> pendingMeals = new HashMap<>();
+
+				for (ScheduleMealResponse schedule : llmApiMealService.streamMealList(request).toIterable()) {
+					ScheduleMealRequest mealRequest = requestMap.get(schedule.getMealId());
+
+					if (mealRequest == null) {
+						log.warn("[MealStreamService] 요청하지 않은 식사 응답 무시: mealId={}", schedule.getMealId());
+						continue;
+					}
+
+					Meal meal = mealDtoMapper.toMeal(memberIdObj, mealRequest, schedule);
+					mealStream.send("meal", mealDtoMapper.toDetailResponse(meal));
+
+					List<Meal> dailyMeals = pendingMeals.computeIfAbsent(meal.getServingDate(), date -> new ArrayList<>());
+					dailyMeals.add(meal);
+
+					if (dailyMeals.size() < DailyMeal.DAILY_MEAL_SIZE) {
+						continue;
+					}
+
+					pendingMeals.remove(meal.getServingDate());
+
+					List<Meal> saved = mealService.saveGeneratedMeals(memberIdObj, dailyMeals);
+					savedMeals += saved.size();
+
+					if (!saved.isEmpty()) {
+						mealStream.send("daily-meal", dailyMealDtoMapper.toDailyResponse(DailyMeal.createDailyMealFrom(saved)));
+					}
+				}
+
+				if (!pendingMeals.isEmpty()) {
+					log.warn("[MealStreamService] 하루 식단이 모두 오지 않아 저장하지 않은 날짜: memberId={}, dates={}", memberIdObj, pendingMeals.keySet());
+				}
+			}
+
+			mealStream.send("done", Map.of("savedMeals", savedMeals));
+			mealStream.complete();
+		}
+		catch (Exception e) {
+			log.error("[MealStreamService] 식단 스트리밍 실패: memberId={}", memberIdObj, e);
+
+			mealStream.completeWithError(e);
+		}
+		finally {
+			log.info("[MealStreamService] 식단 스트리밍 종료: memberId={}, 저장 식사 {} 개, 소요 {} ms",
+				memberIdObj, savedMeals, System.currentTimeMillis() - startedAt);
+		}
+	}
+
+	/**
+	 * 연결이 끊긴 뒤에는 전송만 멈춥니다.
+	 */
+	private static class MealStream {
+		private final SseEmitter emitter;
+		private volatile boolean connected = true;
+
+		MealStream(SseEmitter emitter) {
+			this.emitter = emitter;
+
+			emitter.onCompletion(() -> connected = false);
+			emitter.onTimeout(() -> connected = false);
+			emitter.onError(e -> connected = false);
+		}
+
+		void send(String eventName, Object data) {
+			if (!connected) {
+				return;
+			}
+
+			try {
+				emitter.send(SseEmitter.event().name(eventName).data(data));
+			}
+			catch (IOException | IllegalStateException e) {
+				log.debug("[MealStreamService] SSE 전송 실패로 전송 중단: error={}", e.getMessage());
+				connected = false;
+			}
+		}
+
+		void complete() {
+			if (connected) {
+				emitter.complete();
+			}
+		}
+
+		void completeWithError(Throwable e) {
+			if (connected) {
+				emitter.completeWithError(e);
+			}
+		}
+	}
+}
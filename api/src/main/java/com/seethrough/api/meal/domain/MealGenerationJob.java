@@ -0,0 +1,80 @@
+package com.seethrough.api.meal.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 식단 생성 작업 (메모리에만 보관)
+ * 같은 구성원, 같은 기간의 요청은 진행 중인 작업 하나를 함께 봅니다.
+ */
+@Getter
+@ToString
+public class MealGenerationJob {
+
+	private final UUID jobId;
+	private final UUID memberId;
+	private final LocalDate startDate;
+	private final LocalDate endDate;
+	private final LocalDateTime createdAt;
+
+	private volatile Status status = Status.PENDING;
+	private volatile int totalDates;
+	private final List<LocalDate> completedDates = new ArrayList<>();
+	private volatile String errorMessage;
+	private volatile LocalDateTime finishedAt;
+
+	public MealGenerationJob(UUID jobId, UUID memberId, LocalDate startDate, LocalDate endDate) {
+		this.jobId = jobId;
+		this.memberId = memberId;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.createdAt = LocalDateTime.now();
+	}
+
+	public static String key(UUID memberId, LocalDate startDate, LocalDate endDate) {
+		return memberId + ":" + startDate + ":" + endDate;
+	}
+
+	public String getKey() {
+		return key(memberId, startDate, endDate);
+	}
+
+	public synchronized void start(int totalDates) {
+		this.status = Status.RUNNING;
+		this.totalDates = totalDates;
+	}
+
+	public synchronized void addCompletedDate(LocalDate servingDate) {
+		completedDates.add(servingDate);
+	}
+
+	public synchronized void finish() {
+		this.status = completedDates.size() >= totalDates ? Status.COMPLETED
+			: completedDates.isEmpty() ? Status.FAILED : Status.PARTIAL;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public synchronized void fail(String errorMessage) {
+		this.status = Status.FAILED;
+		this.errorMessage = errorMessage;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public synchronized boolean isFinished() {
+		return finishedAt != null;
+	}
+
+	public synchronized List<LocalDate> getCompletedDates() {
+		return List.copyOf(completedDates);
+	}
+
+	public enum Status {
+		PENDING, RUNNING, COMPLETED, PARTIAL, FAILED
+	}
+}
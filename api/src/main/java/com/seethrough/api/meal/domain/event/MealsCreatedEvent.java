@@ -0,0 +1,17 @@
+package com.seethrough.api.meal.domain.event;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class MealsCreatedEvent {
+	private final UUID memberId;
+	private final List<LocalDate> servingDates;
+}
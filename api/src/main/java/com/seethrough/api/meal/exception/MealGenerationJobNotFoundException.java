@@ -0,0 +1,8 @@
+package com.seethrough.api.meal.exception;
+
+public class MealGenerationJobNotFoundException extends RuntimeException {
+
+	public MealGenerationJobNotFoundException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,141 @@
+package com.seethrough.api.meal.infrastructure.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.seethrough.api.meal.domain.ServingTime;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식단 새로고침용 대체 식사 풀
+ * (구성원, 날짜, 식사 시간) 마다 미리 만들어 둔 대체 식사를 size 개까지 보관하며, 새로고침 시 LLM 요청 없이 하나를 꺼내 씁니다.
+ * 슬롯 수는 max-slots 개까지만 LRU 로 유지하고, 지난 날짜의 슬롯은 주기적으로 정리합니다.
+ */
+@Slf4j
+@Component
+public class MealAlternativePool {
+
+	private static final String KEY_DELIMITER = "|";
+
+	@Value("${meal.alternative-pool.size:2}")
+	private int size;
+
+	@Value("${meal.alternative-pool.max-slots:10000}")
+	private int maxSlots;
+
+	private Map<String, Deque<Alternative>> slots;
+	private final Map<UUID, Long> versionByMember = new HashMap<>();
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	@PostConstruct
+	void init() {
+		slots = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Deque<Alternative>> eldest) {
+				return size() > maxSlots;
+			}
+		};
+	}
+
+	/**
+	 * 현재 메뉴와 다른 대체 식사를 하나 꺼냅니다.
+	 */
+	public synchronized Optional<Alternative> poll(UUID memberId, LocalDate servingDate, ServingTime servingTime, List<String> currentMenu) {
+		Deque<Alternative> alternatives = slots.get(key(memberId, servingDate, servingTime));
+
+		if (alternatives != null) {
+			Iterator<Alternative> iterator = alternatives.iterator();
+
+			while (iterator.hasNext()) {
+				Alternative alternative = iterator.next();
+				iterator.remove();
+
+				if (!alternative.getMenu().equals(currentMenu)) {
+					long hits = hitCount.incrementAndGet();
+					log.debug("[MealAlternativePool] 대체 식사 사용: memberId={}, servingDate={}, servingTime={}, 누적 적중 {} / {}",
+						memberId, servingDate, servingTime, hits, hits + missCount.get());
+
+					return Optional.of(alternative);
+				}
+			}
+		}
+
+		missCount.incrementAndGet();
+		return Optional.empty();
+	}
+
+	/**
+	 * 대체 식사 생성을 시작할 때 받아 두고 add 에 넘깁니다. 그 사이 구성원 슬롯이 비워졌다면 add 는 무시됩니다.
+	 */
+	public synchronized long version(UUID memberId) {
+		return versionByMember.getOrDefault(memberId, 0L);
+	}
+
+	public synchronized void add(UUID memberId, long version, LocalDate servingDate, ServingTime servingTime, Alternative alternative) {
+		if (version != version(memberId)) {
+			return;
+		}
+
+		Deque<Alternative> alternatives = slots.computeIfAbsent(key(memberId, servingDate, servingTime), key -> new ArrayDeque<>());
+
+		if (alternatives.size() < size) {
+			alternatives.addLast(alternative);
+		}
+	}
+
+	/**
+	 * @return 슬롯을 채우려면 더 필요한 대체 식사 수
+	 */
+	public synchronized int missingCount(UUID memberId, LocalDate servingDate, ServingTime servingTime) {
+		Deque<Alternative> alternatives = slots.get(key(memberId, servingDate, servingTime));
+
+		return size - (alternatives == null ? 0 : alternatives.size());
+	}
+
+	public synchronized void evictMember(UUID memberId) {
+		versionByMember.merge(memberId, 1L, Long::sum);
+		slots.keySet().removeIf(key -> key.startsWith(memberId + KEY_DELIMITER));
+	}
+
+	@Scheduled(cron = "${meal.alternative-pool.cleanup-cron:0 10 0 * * *}")
+	public synchronized void removeExpired() {
+		LocalDate today = LocalDate.now();
+		int before = slots.size();
+
+		slots.keySet().removeIf(key -> LocalDate.parse(key.split("\\|")[1]).isBefore(today));
+
+		log.info("[MealAlternativePool] 지난 날짜 대체 식사 정리: 제거 슬롯 {} 개, 남은 슬롯 {} 개", before - slots.size(), slots.size());
+	}
+
+	private static String key(UUID memberId, LocalDate servingDate, ServingTime servingTime) {
+		return memberId + KEY_DELIMITER + servingDate + KEY_DELIMITER + servingTime.name();
+	}
+
+	@Getter
+	@ToString
+	@AllArgsConstructor
+	public static class Alternative {
+		private List<String> menu;
+		private String reason;
+	}
+}
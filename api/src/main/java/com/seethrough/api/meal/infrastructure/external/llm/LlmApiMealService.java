@@ -1,29 +1,79 @@
 package com.seethrough.api.meal.infrastructure.external.llm;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.seethrough.api.common.infrastructure.LlmApiClient;
 import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealListRequest;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.request.ScheduleMealRequest;
 import com.seethrough.api.meal.infrastructure.external.llm.dto.response.ScheduleMealListResponse;
+import com.seethrough.api.meal.infrastructure.external.llm.dto.response.ScheduleMealResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LlmApiMealService {
 
-	private static final int BATCH_SIZE = 3;
-
 	private final LlmApiClient llmApiClient;
 
+	@Value("${meal.llm.chunked:true}")
+	private boolean chunked;
+
+	@Value("${meal.llm.chunk-concurrency:3}")
+	private int chunkConcurrency;
+
+	@Value("${meal.llm.chunk-retries:1}")
+	private int chunkRetries;
+
+	@Value("${meal.llm.streaming:true}")
+	private boolean streaming;
+
+	@Value("${meal.llm.stream-uri:/llm/meal-plan/stream}")
+	private String streamUri;
+
+	/**
+	 * 분할 모드에서는 날짜별 요청 결과를 합쳐 반환하며, 실패한 날짜는 빠집니다.
+	 * 모든 날짜가 실패한 경우에만 예외가 발생합니다.
+	 */
 	public ScheduleMealListResponse createMealList(ScheduleMealListRequest request) {
+		if (!chunked) {
+			return createMealListMono(request).block();
+		}
+
+		List<ScheduleMealListResponse> chunkResponses = createMealListInChunks(request)
+			.collectList()
+			.block();
+
+		ScheduleMealListResponse finalResponse = merge(request.getMemberId(), chunkResponses == null ? List.of() : chunkResponses);
+
+		if (finalResponse.getSchedules().isEmpty() && !request.getSchedules().isEmpty()) {
+			throw new IllegalStateException("식단 생성 요청이 모두 실패했습니다.");
+		}
+
+		log.info("[LlmApiMealService] 전체 식단 생성 완료: total schedules={} / {}",
+			finalResponse.getSchedules().size(), request.getSchedules().size());
+
+		return finalResponse;
+	}
+
+	public Mono<ScheduleMealListResponse> createMealListMono(ScheduleMealListRequest request) {
 		log.info("[LlmApiMealService] 식단 생성 요청 시작: size={}, request={}", request.getSchedules().size(), request);
 
 		String uri = UriComponentsBuilder.fromPath("/llm/meal-plan")
@@ -31,50 +81,101 @@ public class LlmApiMealService {
 			.toUriString();
 
 		return llmApiClient.sendRequestMono(HttpMethod.POST, uri, request, ScheduleMealListResponse.class)
-			.doOnNext(response -> log.info("[LlmApiMealService] 배치 응답: {}", response))
-			.block();
+			.doOnNext(response -> log.info("[LlmApiMealService] 배치 응답: {}", response));
+	}
 
-		// ScheduleMealListResponse finalResponse = ScheduleMealListResponse.builder()
-		// 	.memberId(request.getMemberId())
-		// 	.schedules(new ArrayList<>())
-		// 	.build();
-		//
-		// List<List<ScheduleMealRequest>> batchedRequests = splitIntoBatches(request.getSchedules(), BATCH_SIZE);
-		//
-		// for (int idx = 0; idx < batchedRequests.size(); idx++) {
-		// 	List<ScheduleMealRequest> batch = batchedRequests.get(idx);
-		//
-		// 	ScheduleMealListRequest batchRequest = ScheduleMealListRequest.builder()
-		// 		.memberId(request.getMemberId())
-		// 		.schedules(batch)
-		// 		.build();
-		//
-		// 	log.info("[LlmApiMealService] 배치 처리 중: {}/{}", idx + 1, batchedRequests.size());
-		//
-		// 	ScheduleMealListResponse batchResponse = llmApiClient.sendRequestMono(HttpMethod.POST, uri, batchRequest, ScheduleMealListResponse.class)
-		// 		.doOnNext(response -> log.info("[LlmApiMealService] 배치 응답: {}", response))
-		// 		.block();
-		//
-		// 	if (batchResponse != null && batchResponse.getSchedules() != null) {
-		// 		finalResponse.addSchedules(batchResponse);
-		// 	}
-		// }
-		//
-		// log.info("[LlmApiMealService] 전체 식단 생성 완료: total schedules={}",
-		// 	finalResponse.getSchedules() != null ? finalResponse.getSchedules().size() : 0);
-		//
-		// return finalResponse;
+	/**
+	 * 식사가 하나 만들어질 때마다 LLM 서버가 보내는 응답(NDJSON)을 그대로 내보냅니다.
+	 * 스트리밍이 꺼져 있거나 중간에 실패하거나 일부 식사가 오지 않으면, 받지 못한 식사만 날짜별 분할 요청으로 이어서 받습니다.
+	 */
+	public Flux<ScheduleMealResponse> streamMealList(ScheduleMealListRequest request) {
+		if (!streaming) {
+			return createMealListInChunks(request)
+				.flatMapIterable(ScheduleMealListResponse::getSchedules);
+		}
+
+		log.info("[LlmApiMealService] 식단 스트리밍 요청 시작: size={}, request={}", request.getSchedules().size(), request);
+
+		String uri = UriComponentsBuilder.fromPath(streamUri)
+			.build()
+			.toUriString();
+
+		Set<String> receivedMealIds = ConcurrentHashMap.newKeySet();
+
+		Flux<ScheduleMealResponse> stream = llmApiClient.sendRequestFlux(HttpMethod.POST, uri, request, ScheduleMealResponse.class)
+			.doOnNext(response -> {
+				log.debug("[LlmApiMealService] 스트리밍 응답: {}", response);
+				receivedMealIds.add(response.getMealId());
+			})
+			.onErrorResume(e -> {
+				log.warn("[LlmApiMealService] 식단 스트리밍 실패, 남은 식사는 분할 요청으로 대체: memberId={}, 받은 식사 {} / {}, error={}",
+					request.getMemberId(), receivedMealIds.size(), request.getSchedules().size(), e.getMessage());
+				return Flux.empty();
+			});
+
+		Flux<ScheduleMealResponse> remaining = Flux.defer(() -> {
+			List<ScheduleMealRequest> remainingSchedules = request.getSchedules().stream()
+				.filter(schedule -> !receivedMealIds.contains(schedule.getMealId()))
+				.toList();
+
+			if (remainingSchedules.isEmpty()) {
+				return Flux.empty();
+			}
+
+			return createMealListInChunks(ScheduleMealListRequest.of(request.getMemberId(), remainingSchedules))
+				.flatMapIterable(ScheduleMealListResponse::getSchedules)
+				.filter(schedule -> receivedMealIds.add(schedule.getMealId()));
+		});
+
+		return Flux.concat(stream, remaining);
 	}
 
-	private <T> List<List<T>> splitIntoBatches(List<T> list, int batchSize) {
-		List<List<T>> batches = new ArrayList<>();
+	/**
+	 * 하루(아침, 점심, 저녁) 단위로 나눈 요청을 최대 chunk-concurrency 개씩 동시에 보내고, 응답이 오는 순서대로 내보냅니다.
+	 * 실패한 날짜만 chunk-retries 번까지 다시 요청하며, 끝내 실패한 날짜는 로그를 남기고 건너뜁니다.
+	 */
+	public Flux<ScheduleMealListResponse> createMealListInChunks(ScheduleMealListRequest request) {
+		List<List<ScheduleMealRequest>> batches = splitByServingDate(request.getSchedules());
 
-		for (int idx = 0; idx < list.size(); idx += batchSize) {
-			int endIdx = Math.min(idx + batchSize, list.size());
+		log.info("[LlmApiMealService] 식단 분할 요청 시작: memberId={}, 날짜 {} 개, 동시 요청 {} 개",
+			request.getMemberId(), batches.size(), chunkConcurrency);
 
-			batches.add(list.subList(idx, endIdx));
-		}
+		return Flux.fromIterable(batches)
+			.flatMap(batch -> {
+					LocalDate servingDate = batch.get(0).getServingDate();
+
+					return createMealListMono(ScheduleMealListRequest.of(request.getMemberId(), batch))
+						.flatMap(response -> response.getSchedules() == null || response.getSchedules().isEmpty()
+							? Mono.error(new IllegalStateException("빈 식단 응답"))
+							: Mono.just(response))
+						.retryWhen(Retry.backoff(chunkRetries, Duration.ofSeconds(1))
+							.doBeforeRetry(signal -> log.warn("[LlmApiMealService] 날짜별 식단 재요청 #{}: servingDate={}, error={}",
+								signal.totalRetries() + 1, servingDate, signal.failure().getMessage()))
+						)
+						.onErrorResume(e -> {
+							log.warn("[LlmApiMealService] 날짜별 식단 생성 실패: memberId={}, servingDate={}, error={}",
+								request.getMemberId(), servingDate, e.getMessage());
+							return Mono.empty();
+						});
+				},
+				chunkConcurrency);
+	}
+
+	private ScheduleMealListResponse merge(String memberId, List<ScheduleMealListResponse> chunkResponses) {
+		ScheduleMealListResponse finalResponse = ScheduleMealListResponse.builder()
+			.memberId(memberId)
+			.schedules(new ArrayList<>())
+			.requiredIngredients(new ArrayList<>())
+			.build();
+
+		chunkResponses.forEach(finalResponse::addSchedules);
+
+		return finalResponse;
+	}
 
-		return batches;
+	private List<List<ScheduleMealRequest>> splitByServingDate(List<ScheduleMealRequest> schedules) {
+		return new ArrayList<>(schedules.stream()
+			.collect(Collectors.groupingBy(ScheduleMealRequest::getServingDate, LinkedHashMap::new, Collectors.toList()))
+			.values());
 	}
 }
@@ -25,5 +25,11 @@ public class ScheduleMealListResponse {
 
 	public void addSchedules(ScheduleMealListResponse scheduleMealListResponse) {
 		this.schedules.addAll(scheduleMealListResponse.schedules);
+
+		if (scheduleMealListResponse.requiredIngredients != null) {
+			scheduleMealListResponse.requiredIngredients.stream()
+				.filter(ingredient -> !this.requiredIngredients.contains(ingredient))
+				.forEach(this.requiredIngredients::add);
+		}
 	}
 }
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -13,12 +14,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.seethrough.api.common.exception.ErrorResponse;
+import com.seethrough.api.meal.application.service.MealGenerationJobService;
 import com.seethrough.api.meal.application.service.MealService;
+import com.seethrough.api.meal.application.service.MealStreamService;
 import com.seethrough.api.meal.presentation.dto.request.CreateMealsForPeriodRequest;
 import com.seethrough.api.meal.presentation.dto.response.DailyMealResponse;
 import com.seethrough.api.meal.presentation.dto.response.MealDetailResponse;
+import com.seethrough.api.meal.presentation.dto.response.MealGenerationJobResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -38,6 +43,8 @@ import lombok.extern.slf4j.Slf4j;
 public class MealController {
 
 	private final MealService mealService;
+	private final MealGenerationJobService mealGenerationJobService;
+	private final MealStreamService mealStreamService;
 
 	@GetMapping()
 	@Operation(
@@ -99,7 +106,8 @@ public class MealController {
 	@Operation(
 		summary = "특정 식단 새로고침",
 		description = "특정 식단을 새로운 식단으로 교체합니다.<br>" +
-			"해당 구성원 ID에 매칭되는 구성원이 없는 경우 MemberNotFoundException이 발생합니다.<br><br>" +
+			"해당 구성원 ID에 매칭되는 구성원이 없는 경우 MemberNotFoundException이 발생합니다.<br>" +
+			"미리 만들어 둔 대체 식사가 있으면 LLM 호출 없이 바로 교체하고, 없을 때만 LLM API를 호출합니다.<br><br>" +
 			"응답으로는 새로 생성한 식단의 기본 정보(식단Id, 제공 날짜, 제공 시간, 메뉴, 선정 이유 등)가 포함됩니다."
 	)
 	@ApiResponses(value = {
@@ -141,4 +149,115 @@ public class MealController {
 
 		return ResponseEntity.status(HttpStatus.CREATED).build();
 	}
-}
\ No newline at end of file
+
+	@PostMapping("/jobs/{memberId}")
+	@Operation(
+		summary = "일주일 식단 비동기 생성",
+		description = "오늘 기준 일주일간 비어있는 날짜의 식단 생성을 작업으로 등록하고, 작업 정보를 바로 반환합니다.<br>" +
+			"해당 구성원 ID에 매칭되는 구성원이 없는 경우 MemberNotFoundException이 발생합니다.<br>" +
+			"같은 구성원, 같은 기간의 작업이 진행 중이면 새 작업을 만들지 않고 진행 중인 작업을 반환합니다.<br>" +
+			"진행 상황은 GET /api/meals/jobs/{jobId} 또는 GET /api/meals/jobs/{jobId}/events (SSE)로 확인합니다.<br><br>" +
+			"응답으로는 202 Accepted 상태 코드와 작업 정보(작업Id, 상태, 전체 날짜 수, 완료 날짜 등)가 포함됩니다."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "식단 생성 작업 등록 성공"),
+		@ApiResponse(responseCode = "404", description = "구성원을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<MealGenerationJobResponse> submitMealsJob(@PathVariable String memberId) {
+		log.info("[Controller - POST /api/meals/jobs/{memberId}] 일주일 식단 생성 작업 요청: memberId={}", memberId);
+
+		MealGenerationJobResponse response = mealGenerationJobService.submitWeeklyJob(memberId);
+
+		log.debug("[Controller] 일주일 식단 생성 작업 응답: {}", response);
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+	}
+
+	@PostMapping("/jobs/{memberId}/period")
+	@Operation(
+		summary = "원하는 기간의 식단 비동기 생성",
+		description = "원하는 기간 중 비어있는 날짜의 식단 생성을 작업으로 등록하고, 작업 정보를 바로 반환합니다.<br>" +
+			"해당 구성원 ID에 매칭되는 구성원이 없는 경우 MemberNotFoundException이 발생합니다.<br>" +
+			"같은 구성원, 같은 기간의 작업이 진행 중이면 새 작업을 만들지 않고 진행 중인 작업을 반환합니다.<br><br>" +
+			"응답으로는 202 Accepted 상태 코드와 작업 정보가 포함됩니다."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "식단 생성 작업 등록 성공"),
+		@ApiResponse(responseCode = "404", description = "구성원을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<MealGenerationJobResponse> submitMealsForPeriodJob(
+		@PathVariable String memberId,
+		@Valid @RequestBody CreateMealsForPeriodRequest request
+	) {
+		log.info("[Controller - POST /api/meals/jobs/{memberId}/period] 원하는 기간의 식단 생성 작업 요청: memberId={}, request={}", memberId, request);
+
+		MealGenerationJobResponse response = mealGenerationJobService.submitPeriodJob(memberId, request);
+
+		log.debug("[Controller] 원하는 기간의 식단 생성 작업 응답: {}", response);
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+	}
+
+	@GetMapping("/jobs/{jobId}")
+	@Operation(
+		summary = "식단 생성 작업 상태 조회",
+		description = "식단 생성 작업의 상태(PENDING, RUNNING, COMPLETED, PARTIAL, FAILED)와 완료된 날짜를 반환합니다.<br>" +
+			"해당 작업 ID에 매칭되는 작업이 없는 경우 MealGenerationJobNotFoundException이 발생합니다.<br>" +
+			"끝난 작업은 일정 시간이 지나면 조회되지 않습니다."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "식단 생성 작업 조회 성공"),
+		@ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<MealGenerationJobResponse> getMealsJob(@PathVariable String jobId) {
+		log.info("[Controller - GET /api/meals/jobs/{jobId}] 식단 생성 작업 조회 요청: jobId={}", jobId);
+
+		MealGenerationJobResponse response = mealGenerationJobService.getJob(jobId);
+
+		log.debug("[Controller] 식단 생성 작업 조회 응답: {}", response);
+
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(
+		summary = "식단 생성 작업 진행 구독 (SSE)",
+		description = "식단 생성 작업의 진행 상황을 SSE로 전달합니다.<br>" +
+			"daily-meal 이벤트로 저장된 날짜의 식단(아침, 점심, 저녁)을, status 이벤트로 작업 상태를 전달합니다.<br>" +
+			"구독 시점 이전에 저장된 식단도 먼저 전달하며, 작업이 끝나면 스트림이 종료됩니다.<br>" +
+			"해당 작업 ID에 매칭되는 작업이 없는 경우 MealGenerationJobNotFoundException이 발생하며,<br>" +
+			"스트림을 시작하지 않고 404 상태 코드와 함께 오류 내용(ErrorResponse)을 error 이벤트로 반환합니다."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "식단 생성 작업 구독 성공"),
+		@ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public SseEmitter subscribeMealsJob(@PathVariable String jobId) {
+		log.info("[Controller - GET /api/meals/jobs/{jobId}/events] 식단 생성 작업 구독 요청: jobId={}", jobId);
+
+		return mealGenerationJobService.subscribe(jobId);
+	}
+
+	@PostMapping(value = "/stream/{memberId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(
+		summary = "일주일 식단 스트리밍 생성 (SSE)",
+		description = "오늘 기준 일주일간 비어있는 날짜의 식단을 생성하며, LLM이 식사를 만들 때마다 SSE로 바로 전달합니다.<br>" +
+			"해당 구성원 ID에 매칭되는 구성원이 없는 경우 MemberNotFoundException이 발생합니다.<br>" +
+			"meal 이벤트로 생성된 식사를, 하루 식단(아침, 점심, 저녁)이 모두 모여 저장되면 daily-meal 이벤트를 전달합니다.<br>" +
+			"모든 생성이 끝나면 done 이벤트(저장한 식사 수)를 보내고 스트림을 종료합니다."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "식단 스트리밍 생성 시작"),
+		@ApiResponse(responseCode = "404", description = "구성원을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public SseEmitter streamMeals(@PathVariable String memberId) {
+		log.info("[Controller - POST /api/meals/stream/{memberId}] 식단 스트리밍 생성 요청: memberId={}", memberId);
+
+		return mealStreamService.streamWeeklyMeals(memberId);
+	}
+}
@@ -0,0 +1,25 @@
+package com.seethrough.api.meal.presentation.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class MealGenerationJobResponse {
+	private String jobId;
+	private String memberId;
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private String status;
+	private int totalDates;
+	private List<LocalDate> completedDates;
+	private String errorMessage;
+	private LocalDateTime createdAt;
+	private LocalDateTime finishedAt;
+}
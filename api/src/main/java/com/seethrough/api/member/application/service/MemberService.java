@@ -2,20 +2,28 @@ package com.seethrough.api.member.application.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.seethrough.api.alert.domain.event.CreateAlertByMemberEvent;
+import com.seethrough.api.common.pagination.CursorRequestDto;
+import com.seethrough.api.common.pagination.CursorResponseDto;
 import com.seethrough.api.common.pagination.SliceRequestDto;
 import com.seethrough.api.common.pagination.SliceResponseDto;
+import com.seethrough.api.ingredient.domain.IngredientPreferenceRepository;
 import com.seethrough.api.member.application.dto.LoginMemberResult;
 import com.seethrough.api.member.application.mapper.MemberDtoMapper;
 import com.seethrough.api.member.domain.Member;
 import com.seethrough.api.member.domain.MemberRepository;
+import com.seethrough.api.member.domain.event.MemberFoodPreferenceChangedEvent;
+import com.seethrough.api.member.domain.event.MemberHealthInfoChangedEvent;
 import com.seethrough.api.member.exception.MemberNotFoundException;
 import com.seethrough.api.member.presentation.dto.request.DislikedFoodsRequest;
 import com.seethrough.api.member.presentation.dto.request.LoginMemberRequest;
@@ -34,8 +42,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class MemberService {
 
+	// 커서 정렬 기준은 NOT NULL 컬럼만 허용 (birth, lastLoginAt 은 NULL 일 수 있음)
+	private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "name", "age", "isRegistered", "recognitionTimes");
+
 	private final ApplicationEventPublisher applicationEventPublisher;
 	private final MemberRepository memberRepository;
+	private final IngredientPreferenceRepository ingredientPreferenceRepository;
 	private final MemberDtoMapper memberDtoMapper;
 
 	@Transactional
@@ -71,6 +83,8 @@ public class MemberService {
 				.build();
 
 			memberRepository.save(member);
+
+			ingredientPreferenceRepository.refreshByMemberId(member.getMemberId());
 		}
 
 		return LoginMemberResult.builder()
@@ -96,6 +110,25 @@ public class MemberService {
 		return SliceResponseDto.of(members.map(memberDtoMapper::toListResponse));
 	}
 
+	public CursorResponseDto<MemberListResponse> getMemberListByCursor(
+		String cursor, Integer size, String sortBy, String sortDirection
+	) {
+		log.debug("[Service] getMemberListByCursor 호출");
+
+		CursorRequestDto cursorRequestDto = CursorRequestDto.builder()
+			.cursor(cursor)
+			.size(size)
+			.sortBy(sortBy)
+			.sortDirection(sortDirection)
+			.sortProperties(CURSOR_SORT_PROPERTIES)
+			.build();
+
+		Window<Member> members = memberRepository.findMembers(
+			cursorRequestDto.toScrollPosition(), cursorRequestDto.toSort(), cursorRequestDto.toLimit());
+
+		return CursorResponseDto.of(members.map(memberDtoMapper::toListResponse), cursorRequestDto.toSort());
+	}
+
 	public MemberDetailResponse getMemberDetail(String memberId) {
 		log.debug("[Service] getMemberDetail 호출");
 
@@ -114,6 +147,12 @@ public class MemberService {
 
 		Member member = findMember(memberIdObj);
 
+		Set<String> oldAllergies = Set.copyOf(member.getAllergies());
+		Set<String> oldDiseases = Set.copyOf(member.getDiseases());
+		Set<String> oldPreferredFoods = Set.copyOf(member.getPreferredFoods());
+		Set<String> oldDislikedFoods = Set.copyOf(member.getDislikedFoods());
+		int oldAge = member.getAge();
+
 		member.update(
 			request.getName(),
 			request.getBirth(),
@@ -125,8 +164,37 @@ public class MemberService {
 			request.getDiseases()
 		);
 
+		ingredientPreferenceRepository.refreshByMemberId(memberIdObj);
+
+		if (!oldPreferredFoods.equals(member.getPreferredFoods()) || !oldDislikedFoods.equals(member.getDislikedFoods())) {
+			publishFoodPreferenceChanged(memberIdObj);
+		}
+
+		Set<String> addedAllergies = difference(member.getAllergies(), oldAllergies);
+		Set<String> removedAllergies = difference(oldAllergies, member.getAllergies());
+		Set<String> addedDiseases = difference(member.getDiseases(), oldDiseases);
+		Set<String> removedDiseases = difference(oldDiseases, member.getDiseases());
+		boolean ageChanged = oldAge != member.getAge();
+
+		// 이름, 글자 크기 등 경고와 무관한 항목만 바뀐 경우 경고를 다시 계산하지 않음
+		if (addedAllergies.isEmpty() && removedAllergies.isEmpty() && addedDiseases.isEmpty() && removedDiseases.isEmpty() && !ageChanged) {
+			log.debug("[Service] 건강 정보 변경 없음, 경고 재계산 생략: memberId={}", memberIdObj);
+			return;
+		}
+
+		applicationEventPublisher.publishEvent(MemberHealthInfoChangedEvent.builder()
+			.memberId(memberIdObj)
+			.allergies(Set.copyOf(member.getAllergies()))
+			.diseases(Set.copyOf(member.getDiseases()))
+			.build());
+
 		applicationEventPublisher.publishEvent(CreateAlertByMemberEvent.builder()
 			.memberId(memberIdObj)
+			.addedAllergies(addedAllergies)
+			.removedAllergies(removedAllergies)
+			.addedDiseases(addedDiseases)
+			.removedDiseases(removedDiseases)
+			.ageChanged(ageChanged)
 			.build());
 	}
 
@@ -139,6 +207,12 @@ public class MemberService {
 		Member member = findMember(memberIdObj);
 
 		member.delete();
+
+		applicationEventPublisher.publishEvent(MemberHealthInfoChangedEvent.builder()
+			.memberId(memberIdObj)
+			.allergies(Set.of())
+			.diseases(Set.of())
+			.build());
 	}
 
 	@Transactional
@@ -150,6 +224,10 @@ public class MemberService {
 		Member member = findMember(memberIdObj);
 
 		member.addPreferredFoods(request.getPreferredFoods());
+
+		ingredientPreferenceRepository.refreshByMemberId(memberIdObj);
+
+		publishFoodPreferenceChanged(memberIdObj);
 	}
 
 	@Transactional
@@ -161,6 +239,10 @@ public class MemberService {
 		Member member = findMember(memberIdObj);
 
 		member.removePreferredFoods(request.getPreferredFoods());
+
+		ingredientPreferenceRepository.refreshByMemberId(memberIdObj);
+
+		publishFoodPreferenceChanged(memberIdObj);
 	}
 
 	@Transactional
@@ -172,6 +254,10 @@ public class MemberService {
 		Member member = findMember(memberIdObj);
 
 		member.addDislikedFoods(request.getDislikedFoods());
+
+		ingredientPreferenceRepository.refreshByMemberId(memberIdObj);
+
+		publishFoodPreferenceChanged(memberIdObj);
 	}
 
 	@Transactional
@@ -183,6 +269,10 @@ public class MemberService {
 		Member member = findMember(memberIdObj);
 
 		member.removeDislikedFoods(request.getDislikedFoods());
+
+		ingredientPreferenceRepository.refreshByMemberId(memberIdObj);
+
+		publishFoodPreferenceChanged(memberIdObj);
 	}
 
 	public UUID checkMemberExists(String memberId) {
@@ -246,4 +336,17 @@ public class MemberService {
 				new MemberNotFoundException("구성원을 찾을 수 없습니다.")
 			);
 	}
+
+	// 선호/비선호 음식은 식단 생성 입력이므로, 미리 만든 대체 식사를 버리도록 알림
+	private void publishFoodPreferenceChanged(UUID memberId) {
+		applicationEventPublisher.publishEvent(MemberFoodPreferenceChangedEvent.builder()
+			.memberId(memberId)
+			.build());
+	}
+
+	private Set<String> difference(Set<String> source, Set<String> other) {
+		return source.stream()
+			.filter(item -> !other.contains(item))
+			.collect(Collectors.toUnmodifiableSet());
+	}
 }
@@ -146,8 +146,6 @@ public class Member {
 		this.dislikedFoods = dislikedFoods;
 		this.allergies = allergies;
 		this.diseases = diseases;
-
-		this.alerts.clear();
 	}
 
 	public void calculateAge() {
@@ -5,8 +5,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 public interface MemberRepository {
 
@@ -14,6 +18,8 @@ public interface MemberRepository {
 
 	Slice<Member> findMembers(Pageable pageable);
 
+	Window<Member> findMembers(ScrollPosition position, Sort sort, Limit limit);
+
 	Optional<Member> findByMemberId(UUID memberId);
 
 	boolean existsByMemberId(UUID memberIdObj);
@@ -0,0 +1,14 @@
+package com.seethrough.api.member.domain.event;
+
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class MemberFoodPreferenceChangedEvent {
+	private final UUID memberId;
+}
@@ -0,0 +1,17 @@
+package com.seethrough.api.member.domain.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class MemberHealthInfoChangedEvent {
+	private final UUID memberId;
+	private final Set<String> allergies;
+	private final Set<String> diseases;
+}
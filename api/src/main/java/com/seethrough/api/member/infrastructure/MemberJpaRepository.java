@@ -5,8 +5,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -16,6 +20,8 @@ public interface MemberJpaRepository extends JpaRepository<Member, UUID> {
 
 	Slice<Member> findAllByDeletedAtIsNull(Pageable pageable);
 
+	Window<Member> findAllByDeletedAtIsNull(ScrollPosition position, Sort sort, Limit limit);
+
 	Optional<Member> findByMemberIdAndDeletedAtIsNull(UUID memberId);
 
 	List<Member> findMembersByLastLoginAtAfter(LocalDateTime date);
@@ -5,8 +5,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import com.seethrough.api.member.domain.Member;
@@ -48,6 +52,21 @@ public class MemberRepositoryImpl implements MemberRepository {
 		return entities;
 	}
 
+	@Override
+	public Window<Member> findMembers(ScrollPosition position, Sort sort, Limit limit) {
+		log.debug("[Repository] findMembers 호출: position={}, limit={}, sort={}", position, limit.max(), sort);
+
+		Window<Member> entities = memberJpaRepository.findAllByDeletedAtIsNull(position, sort, limit);
+
+		log.debug("[Repository] 조회된 구성원 수: {}, 남은 데이터 여부: {}", entities.size(), entities.hasNext());
+
+		if (!entities.isEmpty()) {
+			log.debug("[Repository] 첫 번째 구성원 상세 정보:{}", entities.getContent().get(0));
+		}
+
+		return entities;
+	}
+
 	@Override
 	public Optional<Member> findByMemberId(UUID memberId) {
 		log.debug("[Repository] findByMemberId 호출");
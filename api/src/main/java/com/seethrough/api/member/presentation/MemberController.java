@@ -2,6 +2,7 @@ package com.seethrough.api.member.presentation;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -14,6 +15,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.seethrough.api.common.exception.ErrorResponse;
+import com.seethrough.api.common.pagination.CursorRequestDto;
+import com.seethrough.api.common.pagination.CursorResponseDto;
 import com.seethrough.api.common.pagination.SliceResponseDto;
 import com.seethrough.api.member.application.dto.LoginMemberResult;
 import com.seethrough.api.member.application.service.MemberService;
@@ -33,10 +36,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/members")
@@ -106,6 +112,44 @@ public class MemberController {
 		return ResponseEntity.ok(responseList);
 	}
 
+	@GetMapping("/cursor")
+	@Operation(
+		summary = "구성원 목록 커서 조회",
+		description = "탈퇴하지 않은 모든 사용자의 목록을 커서 기반 페이지네이션을 적용하여 반환합니다.<br>" +
+			"커서가 비어있으면 첫 페이지를 반환하며, 이후에는 응답의 next_cursor를 그대로 전달하면 다음 페이지를 반환합니다.<br>" +
+			"기본적으로 생성일 기준 내림차순으로 정렬되며, 페이지 위치와 관계없이 조회 비용이 일정합니다."
+	)
+	public ResponseEntity<CursorResponseDto<MemberListResponse>> getMemberListByCursor(
+		@Parameter(description = "이전 응답의 다음 페이지 커서 (비어있으면 첫 페이지)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "페이지당 항목 수 (최대 100)")
+		@RequestParam(defaultValue = "10")
+		@Min(value = 1, message = "size는 1 이상이어야 합니다")
+		@Max(value = CursorRequestDto.MAX_SIZE, message = "size는 100 이하여야 합니다") Integer size,
+
+		@Parameter(description = "정렬 기준 필드 (createdAt, name, age, isRegistered, recognitionTimes 중 하나, 그 외에는 400)")
+		@RequestParam(defaultValue = "createdAt") String sortBy,
+
+		@Parameter(description = "정렬 방향 (ASC: 오름차순, DESC: 내림차순)")
+		@RequestParam(defaultValue = "DESC") String sortDirection
+	) {
+		log.info("[Controller - GET /api/members/cursor] 구성원 목록 커서 조회 요청: cursor={}, size={}, sortBy={}, sortDirection={}",
+			cursor, size, sortBy, sortDirection);
+
+		CursorResponseDto<MemberListResponse> responseList = memberService.getMemberListByCursor(cursor, size, sortBy, sortDirection);
+
+		if (!responseList.getContent().isEmpty()) {
+			log.debug("[Controller] 첫 번째 응답 상세 정보:{}", responseList.getContent().get(0));
+		}
+
+		log.info("[Controller] 구성원 목록 커서 조회 응답: 총 {}개 항목, 다음 페이지 존재 여부: {}",
+			responseList.getContent().size(),
+			responseList.getCursorInfo().getHasNext());
+
+		return ResponseEntity.ok(responseList);
+	}
+
 	@GetMapping("/{memberId}")
 	@Operation(
 		summary = "구성원 조회",
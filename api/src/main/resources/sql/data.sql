@@ -152,6 +152,18 @@ VALUES ('01960e59-db82-7c6c-9f9a-1e130b41e7f6', '딸기잼', 'https://see-throug
       ('01961806-416c-7d36-a519-7ae9448ce69b','소시지','https://see-through002.s3.ap-northeast-2.amazonaws.com/ingredient/sausage.png','3e300ea3-41a0-4a46-8000-4cc1725dfdfb','2025-04-09 09:49:45.324949',NULL,NULL);
 
 
+-- 구성원별 식재료 선호도 순위 테이블 데이터
+INSERT INTO member_ingredient_preferences (member_id, ingredient_id, preference_order)
+SELECT m.member_id,
+       i.ingredient_id,
+       CASE
+           WHEN m.preferred_foods @> jsonb_build_array(i.name) THEN 1
+           WHEN m.disliked_foods @> jsonb_build_array(i.name) THEN 3
+           ELSE 2
+           END
+FROM members m
+         CROSS JOIN ingredients i;
+
 -- 냉장고 로그 테이블 데이터
 INSERT INTO ingredient_logs (ingredient_log_id, ingredient_name, ingredient_image_path, member_id, movement_type, created_at, embedding_vector)
 VALUES ('01960e59-db99-7046-be1b-af0113a25508', '딸기잼', 'https://see-through002.s3.ap-northeast-2.amazonaws.com/ingredient/strawberry-jam.png',
@@ -55,6 +55,9 @@ CREATE TABLE members
     PRIMARY KEY (member_id)
 );
 
+-- 커서 기반 페이지네이션 (정렬 컬럼, ID) 키셋 인덱스
+CREATE INDEX ON members (created_at, member_id);
+
 -- 냉장고 식재료 테이블
 CREATE TABLE ingredients
 (
@@ -72,6 +75,48 @@ CREATE TABLE ingredients
 
 CREATE INDEX ON ingredients USING HNSW (embedding_vector vector_cosine_ops);
 
+-- 임베딩 백필 대상(벡터 누락 행) 키셋 조회용 부분 인덱스
+CREATE INDEX ON ingredients (ingredient_id) WHERE embedding_vector IS NULL;
+
+-- 커서 기반 페이지네이션 (정렬 컬럼, ID) 키셋 인덱스
+CREATE INDEX ON ingredients (inbound_at, ingredient_id);
+
+-- 구성원별 식재료 선호도 순위 테이블 (1: 선호, 2: 중립, 3: 비선호)
+-- 식재료가 출고(삭제)되면 함께 삭제됨
+CREATE TABLE member_ingredient_preferences
+(
+    member_id        VARCHAR(36) NOT NULL,
+    ingredient_id    VARCHAR(36) NOT NULL,
+    preference_order SMALLINT    NOT NULL DEFAULT 2,
+
+    PRIMARY KEY (member_id, ingredient_id),
+    FOREIGN KEY (member_id) REFERENCES members (member_id),
+    FOREIGN KEY (ingredient_id) REFERENCES ingredients (ingredient_id) ON DELETE CASCADE
+);
+
+CREATE INDEX ON member_ingredient_preferences (member_id, preference_order, ingredient_id);
+
+-- 식재료 이름 임베딩 캐시 테이블 (정규화된 이름 + 임베딩 모델 버전 기준)
+CREATE TABLE ingredient_name_embeddings
+(
+    name_key         TEXT         NOT NULL,
+    model_version    VARCHAR(100) NOT NULL,
+    embedding_vector VECTOR(1536) NOT NULL,
+    created_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (name_key, model_version)
+);
+
+-- 임베딩 백필 체크포인트 테이블 (대상별 마지막 처리 ID)
+CREATE TABLE embedding_backfill_checkpoints
+(
+    target     VARCHAR(30) NOT NULL,
+    last_id    VARCHAR(36) NOT NULL DEFAULT '',
+    updated_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (target)
+);
+
 -- 냉장고 로그 입출고 ENUM
 CREATE TYPE MOVEMENT_TYPE AS ENUM ('INBOUND', 'OUTBOUND');
 
@@ -92,6 +137,13 @@ CREATE TABLE ingredient_logs
 
 CREATE INDEX ON ingredient_logs USING HNSW (embedding_vector vector_cosine_ops);
 
+-- 임베딩 백필 대상(벡터 누락 행) 키셋 조회용 부분 인덱스
+CREATE INDEX ON ingredient_logs (ingredient_log_id) WHERE embedding_vector IS NULL;
+
+-- 커서 기반 페이지네이션 (정렬 컬럼, ID) 키셋 인덱스
+CREATE INDEX ON ingredient_logs (created_at, ingredient_log_id);
+CREATE INDEX ON ingredient_logs (member_id, created_at, ingredient_log_id);
+
 -- 경고 테이블
 CREATE TABLE alerts
 (
@@ -0,0 +1,130 @@
+package com.seethrough.api.alert.application.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.seethrough.api.alert.application.service.AlertService;
+import com.seethrough.api.alert.domain.event.CreateAlertByMemberEvent;
+
+class MemberAlertCoalescerTest {
+
+	private final UUID memberId = UUID.randomUUID();
+
+	private AlertService alertService;
+	private MemberAlertCoalescer memberAlertCoalescer;
+
+	private final List<Runnable> scheduledTasks = new ArrayList<>();
+	private final List<ScheduledFuture<?>> scheduledFutures = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		alertService = mock(AlertService.class);
+		TaskScheduler taskScheduler = mock(TaskScheduler.class);
+		ThreadPoolTaskExecutor alertTaskExecutor = mock(ThreadPoolTaskExecutor.class);
+
+		when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+			ScheduledFuture<?> future = mock(ScheduledFuture.class);
+			scheduledTasks.add(invocation.getArgument(0));
+			scheduledFutures.add(future);
+			return future;
+		});
+		doAnswer(invocation -> {
+			((Runnable)invocation.getArgument(0)).run();
+			return null;
+		}).when(alertTaskExecutor).execute(any(Runnable.class));
+
+		memberAlertCoalescer = new MemberAlertCoalescer(alertService, taskScheduler, alertTaskExecutor);
+	}
+
+	@Test
+	void netAdded_는_앞에서_추가_후_뒤에서_삭제된_항목을_제외한다() {
+		assertThat(MemberAlertCoalescer.netAdded(Set.of("우유", "땅콩"), Set.of(), Set.of(), Set.of("우유")))
+			.containsExactly("땅콩");
+	}
+
+	@Test
+	void netAdded_는_앞에서_삭제_후_뒤에서_다시_추가된_항목을_제외한다() {
+		assertThat(MemberAlertCoalescer.netAdded(Set.of(), Set.of("우유"), Set.of("우유", "계란"), Set.of()))
+			.containsExactly("계란");
+	}
+
+	@Test
+	void netAdded_는_양쪽에서_추가된_항목을_합친다() {
+		assertThat(MemberAlertCoalescer.netAdded(Set.of("우유"), Set.of(), Set.of("계란"), Set.of()))
+			.containsExactlyInAnyOrder("우유", "계란");
+	}
+
+	@Test
+	void merge_는_추가와_삭제를_상쇄하고_연령_변경은_유지한다() {
+		CreateAlertByMemberEvent previous = CreateAlertByMemberEvent.builder()
+			.memberId(memberId)
+			.addedAllergies(Set.of("우유"))
+			.removedDiseases(Set.of("당뇨"))
+			.ageChanged(true)
+			.build();
+		CreateAlertByMemberEvent next = CreateAlertByMemberEvent.builder()
+			.memberId(memberId)
+			.addedAllergies(Set.of("땅콩"))
+			.removedAllergies(Set.of("우유"))
+			.addedDiseases(Set.of("당뇨", "고혈압"))
+			.build();
+
+		CreateAlertByMemberEvent merged = MemberAlertCoalescer.merge(previous, next);
+
+		assertThat(merged.getMemberId()).isEqualTo(memberId);
+		assertThat(merged.getAddedAllergies()).containsExactly("땅콩");
+		assertThat(merged.getRemovedAllergies()).isEmpty();
+		assertThat(merged.getAddedDiseases()).containsExactly("고혈압");
+		assertThat(merged.getRemovedDiseases()).isEmpty();
+		assertThat(merged.isAgeChanged()).isTrue();
+		assertThat(MemberAlertCoalescer.isEmpty(merged)).isFalse();
+	}
+
+	@Test
+	void 추가_후_다시_삭제하면_변경_없음으로_본다() {
+		CreateAlertByMemberEvent merged = MemberAlertCoalescer.merge(
+			CreateAlertByMemberEvent.builder().memberId(memberId).addedAllergies(Set.of("우유")).build(),
+			CreateAlertByMemberEvent.builder().memberId(memberId).removedAllergies(Set.of("우유")).build());
+
+		assertThat(MemberAlertCoalescer.isEmpty(merged)).isTrue();
+	}
+
+	@Test
+	void 같은_구성원의_연속_요청은_이전_예약을_취소하고_한_번만_실행한다() {
+		memberAlertCoalescer.submit(CreateAlertByMemberEvent.builder().memberId(memberId).addedAllergies(Set.of("우유")).build());
+		memberAlertCoalescer.submit(CreateAlertByMemberEvent.builder().memberId(memberId).addedAllergies(Set.of("땅콩")).build());
+
+		assertThat(scheduledTasks).hasSize(2);
+		verify(scheduledFutures.get(0)).cancel(false);
+
+		scheduledTasks.get(1).run();
+
+		ArgumentCaptor<CreateAlertByMemberEvent> captor = ArgumentCaptor.forClass(CreateAlertByMemberEvent.class);
+		verify(alertService, times(1)).updateAlertByMember(captor.capture());
+		assertThat(captor.getValue().getAddedAllergies()).containsExactlyInAnyOrder("우유", "땅콩");
+	}
+
+	@Test
+	void 합친_결과_변경이_없으면_실행하지_않는다() {
+		memberAlertCoalescer.submit(CreateAlertByMemberEvent.builder().memberId(memberId).addedAllergies(Set.of("우유")).build());
+		memberAlertCoalescer.submit(CreateAlertByMemberEvent.builder().memberId(memberId).removedAllergies(Set.of("우유")).build());
+
+		scheduledTasks.get(1).run();
+
+		verify(alertService, never()).updateAlertByMember(any());
+	}
+}
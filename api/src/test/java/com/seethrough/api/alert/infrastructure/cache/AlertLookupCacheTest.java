@@ -0,0 +1,73 @@
+package com.seethrough.api.alert.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.seethrough.api.alert.domain.AlertId;
+
+class AlertLookupCacheTest {
+
+	private AlertLookupCache alertLookupCache;
+
+	@BeforeEach
+	void setUp() {
+		alertLookupCache = new AlertLookupCache();
+		ReflectionTestUtils.setField(alertLookupCache, "maxSize", 100);
+		ReflectionTestUtils.setField(alertLookupCache, "expectedInsertions", 1_000);
+		ReflectionTestUtils.setField(alertLookupCache, "falsePositiveRate", 0.001);
+		ReflectionTestUtils.setField(alertLookupCache, "recentWriteRetentionMs", 600_000L);
+		alertLookupCache.init();
+	}
+
+	@Test
+	void 블룸_필터_적재_전에는_항상_있을_수_있음으로_판단한다() {
+		assertThat(alertLookupCache.mightContain(randomAlertId())).isTrue();
+	}
+
+	@Test
+	void 재생성_후에는_없는_ID_를_걸러낸다() {
+		AlertId existing = randomAlertId();
+
+		alertLookupCache.beginRebuild();
+		alertLookupCache.completeRebuild(List.of(existing));
+
+		assertThat(alertLookupCache.mightContain(existing)).isTrue();
+		assertThat(alertLookupCache.mightContain(randomAlertId())).isFalse();
+		assertThat(alertLookupCache.getStats().isBloomReady()).isTrue();
+	}
+
+	@Test
+	void 재생성_중에_저장한_ID_는_스냅샷에_없어도_새_필터에_남는다() {
+		AlertId written = randomAlertId();
+
+		alertLookupCache.beginRebuild();
+		alertLookupCache.markWritten(List.of(written));
+		alertLookupCache.completeRebuild(List.of());
+
+		assertThat(alertLookupCache.mightContain(written)).isTrue();
+	}
+
+	@Test
+	void 재생성_직전에_저장한_ID_도_새_필터에_남는다() {
+		AlertId written = randomAlertId();
+
+		alertLookupCache.markWritten(List.of(written));
+		alertLookupCache.beginRebuild();
+		alertLookupCache.completeRebuild(List.of());
+
+		assertThat(alertLookupCache.mightContain(written)).isTrue();
+	}
+
+	private static AlertId randomAlertId() {
+		return AlertId.builder()
+			.memberId(UUID.randomUUID())
+			.ingredientId(UUID.randomUUID())
+			.build();
+	}
+}
@@ -0,0 +1,70 @@
+package com.seethrough.api.alert.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.seethrough.api.alert.domain.AlertId;
+
+class BloomFilterTest {
+
+	@Test
+	void 추가한_ID_는_항상_있을_수_있음으로_판단한다() {
+		AlertLookupCache.BloomFilter bloomFilter = new AlertLookupCache.BloomFilter(1_000, 0.01);
+		List<AlertId> alertIds = randomAlertIds(1_000);
+
+		alertIds.forEach(bloomFilter::put);
+
+		assertThat(alertIds).allMatch(bloomFilter::mightContain);
+	}
+
+	@Test
+	void 거짓_양성률이_설정값_근처로_유지된다() {
+		AlertLookupCache.BloomFilter bloomFilter = new AlertLookupCache.BloomFilter(10_000, 0.01);
+		randomAlertIds(10_000).forEach(bloomFilter::put);
+
+		long falsePositives = randomAlertIds(100_000).stream()
+			.filter(bloomFilter::mightContain)
+			.count();
+
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+	}
+
+	@Test
+	void 같은_구성원의_다른_식재료를_구분한다() {
+		AlertLookupCache.BloomFilter bloomFilter = new AlertLookupCache.BloomFilter(1_000, 0.01);
+		UUID memberId = UUID.randomUUID();
+
+		bloomFilter.put(alertId(memberId, UUID.randomUUID()));
+
+		long falsePositives = IntStream.range(0, 1_000)
+			.filter(i -> bloomFilter.mightContain(alertId(memberId, UUID.randomUUID())))
+			.count();
+
+		assertThat(falsePositives).isLessThan(20);
+	}
+
+	@Test
+	void 빈_필터는_아무것도_포함하지_않는다() {
+		AlertLookupCache.BloomFilter bloomFilter = new AlertLookupCache.BloomFilter(0, 0.01);
+
+		assertThat(randomAlertIds(100)).noneMatch(bloomFilter::mightContain);
+	}
+
+	private static List<AlertId> randomAlertIds(int size) {
+		return IntStream.range(0, size)
+			.mapToObj(i -> alertId(UUID.randomUUID(), UUID.randomUUID()))
+			.toList();
+	}
+
+	private static AlertId alertId(UUID memberId, UUID ingredientId) {
+		return AlertId.builder()
+			.memberId(memberId)
+			.ingredientId(ingredientId)
+			.build();
+	}
+}
@@ -0,0 +1,105 @@
+package com.seethrough.api.alert.infrastructure.external.llm;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.seethrough.api.member.domain.Member;
+
+class AlertVerdictCacheTest {
+
+	private AlertVerdictCache alertVerdictCache;
+
+	@BeforeEach
+	void setUp() {
+		alertVerdictCache = new AlertVerdictCache();
+		ReflectionTestUtils.setField(alertVerdictCache, "maxSize", 100);
+		ReflectionTestUtils.setField(alertVerdictCache, "ttlMs", 60_000L);
+		alertVerdictCache.init();
+	}
+
+	@Test
+	void 저장한_판정을_구성원별로_반환한다() {
+		Member allergic = member(Set.of("우유"), Set.of(), 30);
+		Member healthy = member(Set.of(), Set.of(), 30);
+		List<Member> members = List.of(allergic, healthy);
+
+		alertVerdictCache.putAll("치즈", members, Map.of(allergic.getMemberId(), "우유 알레르기 주의"));
+
+		Map<UUID, AlertVerdictCache.Verdict> verdicts = alertVerdictCache.getAll(" 치즈 ", members);
+
+		assertThat(verdicts).hasSize(2);
+		assertThat(verdicts.get(allergic.getMemberId()).isRisky()).isTrue();
+		assertThat(verdicts.get(allergic.getMemberId()).getComment()).isEqualTo("우유 알레르기 주의");
+		assertThat(verdicts.get(healthy.getMemberId()).isRisky()).isFalse();
+	}
+
+	@Test
+	void 건강_정보가_같은_다른_구성원은_판정을_재사용한다() {
+		Member member = member(Set.of("우유", "땅콩"), Set.of("당뇨"), 30);
+		Member sameProfile = member(Set.of("땅콩", " 우유"), Set.of("당뇨"), 40);
+
+		alertVerdictCache.putAll("치즈", List.of(member), Map.of(member.getMemberId(), "주의"));
+
+		assertThat(alertVerdictCache.getAll("치즈", List.of(sameProfile)))
+			.containsOnlyKeys(sameProfile.getMemberId());
+	}
+
+	@Test
+	void 건강_정보나_연령대가_다르면_판정을_재사용하지_않는다() {
+		Member member = member(Set.of("우유"), Set.of(), 30);
+
+		alertVerdictCache.putAll("치즈", List.of(member), Map.of());
+
+		assertThat(alertVerdictCache.getAll("치즈", List.of(member(Set.of("우유"), Set.of("당뇨"), 30)))).isEmpty();
+		assertThat(alertVerdictCache.getAll("치즈", List.of(member(Set.of("우유"), Set.of(), 10)))).isEmpty();
+		assertThat(alertVerdictCache.getAll("우유", List.of(member))).isEmpty();
+	}
+
+	@Test
+	void 만료된_판정은_반환하지_않는다() {
+		ReflectionTestUtils.setField(alertVerdictCache, "ttlMs", 0L);
+		Member member = member(Set.of("우유"), Set.of(), 30);
+
+		alertVerdictCache.putAll("치즈", List.of(member), Map.of());
+
+		assertThat(alertVerdictCache.getAll("치즈", List.of(member))).isEmpty();
+	}
+
+	@Test
+	void 무효화하면_해당_구성원의_판정이_제거된다() {
+		Member member = member(Set.of("우유"), Set.of(), 30);
+
+		alertVerdictCache.putAll("치즈", List.of(member), Map.of());
+		alertVerdictCache.invalidate(member.getMemberId());
+
+		assertThat(alertVerdictCache.getAll("치즈", List.of(member))).isEmpty();
+	}
+
+	@Test
+	void 같은_건강_정보의_다른_구성원이_남아있으면_무효화해도_판정을_유지한다() {
+		Member member = member(Set.of("우유"), Set.of(), 30);
+		Member sameProfile = member(Set.of("우유"), Set.of(), 30);
+
+		alertVerdictCache.putAll("치즈", List.of(member, sameProfile), Map.of());
+		alertVerdictCache.invalidate(member.getMemberId());
+
+		assertThat(alertVerdictCache.getAll("치즈", List.of(sameProfile))).containsOnlyKeys(sameProfile.getMemberId());
+	}
+
+	private static Member member(Set<String> allergies, Set<String> diseases, int age) {
+		return Member.builder()
+			.memberId(UUID.randomUUID())
+			.age(age)
+			.allergies(allergies)
+			.diseases(diseases)
+			.build();
+	}
+}
@@ -0,0 +1,55 @@
+package com.seethrough.api.alert.infrastructure.matcher;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickAutomatonTest {
+
+	@Test
+	void 실패_링크를_따라_겹치는_패턴을_모두_찾는다() {
+		AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Map.of(
+			"he", Set.of("HE"),
+			"she", Set.of("SHE"),
+			"his", Set.of("HIS"),
+			"hers", Set.of("HERS")
+		));
+
+		assertThat(automaton.findAll("ushers")).containsExactlyInAnyOrder("SHE", "HE", "HERS");
+		assertThat(automaton.findAll("ahishers")).containsExactlyInAnyOrder("HIS", "SHE", "HE", "HERS");
+	}
+
+	@Test
+	void 실패_후_다른_패턴의_접두사에서_다시_이어서_찾는다() {
+		AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Map.of(
+			"닭가슴살", Set.of("닭고기"),
+			"가슴살", Set.of("가슴살")
+		));
+
+		assertThat(automaton.findAll("닭가슴")).isEmpty();
+		assertThat(automaton.findAll("훈제닭가슴살")).containsExactlyInAnyOrder("닭고기", "가슴살");
+		assertThat(automaton.findAll("닭닭가슴살")).containsExactlyInAnyOrder("닭고기", "가슴살");
+	}
+
+	@Test
+	void 한_패턴에_여러_결과_키를_지정할_수_있다() {
+		AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Map.of(
+			"치즈", Set.of("우유", "유제품")
+		));
+
+		assertThat(automaton.findAll("모짜렐라치즈")).containsExactlyInAnyOrder("우유", "유제품");
+	}
+
+	@Test
+	void 빈_패턴은_무시한다() {
+		AhoCorasickAutomaton automaton = new AhoCorasickAutomaton(Map.of(
+			"", Set.of("EMPTY")
+		));
+
+		assertThat(automaton.findAll("아무거나")).isEmpty();
+		assertThat(automaton.findAll("")).isEmpty();
+	}
+}
@@ -0,0 +1,110 @@
+package com.seethrough.api.alert.infrastructure.matcher;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AllergyMatcherTest {
+
+	private final UUID memberId = UUID.randomUUID();
+	private final UUID otherMemberId = UUID.randomUUID();
+
+	private AllergyMatcher allergyMatcher;
+
+	@BeforeEach
+	void setUp() {
+		allergyMatcher = new AllergyMatcher();
+	}
+
+	@Test
+	void 알레르기_항목과_동의어가_이름에_포함되면_적중한다() {
+		allergyMatcher.update(memberId, Set.of("우유"), Set.of());
+		allergyMatcher.update(otherMemberId, Set.of("땅콩"), Set.of());
+
+		assertThat(allergyMatcher.match("모짜렐라 치즈", false).getAllergensByMember())
+			.containsOnlyKeys(memberId)
+			.containsEntry(memberId, Set.of("우유"));
+		assertThat(allergyMatcher.match("피넛버터", false).getAllergensByMember())
+			.containsEntry(memberId, Set.of("우유"))
+			.containsEntry(otherMemberId, Set.of("땅콩"));
+		assertThat(allergyMatcher.match("양배추", false).getAllergensByMember()).isEmpty();
+	}
+
+	@Test
+	void 한_글자_항목은_이름_전체가_같을_때만_적중한다() {
+		allergyMatcher.update(memberId, Set.of("밀", "게"), Set.of());
+
+		assertThat(allergyMatcher.match("밀", false).getAllergensByMember()).containsEntry(memberId, Set.of("밀"));
+		assertThat(allergyMatcher.match("게", false).getAllergensByMember()).containsEntry(memberId, Set.of("게"));
+		assertThat(allergyMatcher.match("밀감", false).getAllergensByMember()).isEmpty();
+		assertThat(allergyMatcher.match("미역게", false).getAllergensByMember()).isEmpty();
+
+		// 두 글자 이상의 동의어는 포함되면 적중
+		assertThat(allergyMatcher.match("통밀가루", false).getAllergensByMember()).containsEntry(memberId, Set.of("밀"));
+		assertThat(allergyMatcher.match("냉동 꽃게", false).getAllergensByMember()).containsEntry(memberId, Set.of("게"));
+	}
+
+	@Test
+	void 이름은_공백과_대소문자를_무시하고_비교한다() {
+		assertThat(AllergyMatcher.normalize(" Peanut  Butter ")).isEqualTo("peanutbutter");
+		assertThat(AllergyMatcher.matchAllergens("생 크림", Set.of("우유", "계란"))).containsExactly("우유");
+	}
+
+	@Test
+	void matchAllergens_도_한_글자_항목은_이름_전체가_같을_때만_적중한다() {
+		assertThat(AllergyMatcher.matchAllergens("밀", Set.of("밀"))).containsExactly("밀");
+		assertThat(AllergyMatcher.matchAllergens("밀감", Set.of("밀"))).isEmpty();
+		assertThat(AllergyMatcher.matchAllergens("굴소스", Set.of("조개류"))).isEmpty();
+		assertThat(AllergyMatcher.matchAllergens("굴", Set.of("조개류"))).containsExactly("조개류");
+	}
+
+	@Test
+	void 알레르기와_질병_정보가_없으면_LLM_을_생략한다() {
+		assertThat(allergyMatcher.match("우유", false).isSkipLlm()).isTrue();
+
+		allergyMatcher.update(memberId, Set.of(" "), Set.of(""));
+
+		assertThat(allergyMatcher.match("우유", false).isSkipLlm()).isTrue();
+	}
+
+	@Test
+	void 미성년자나_65세_이상_구성원이_있으면_LLM_을_생략하지_않는다() {
+		assertThat(allergyMatcher.match("맥주", true).isSkipLlm()).isFalse();
+	}
+
+	@Test
+	void 사전을_신뢰하지_않으면_알레르기_구성원이_있을_때_LLM_을_생략하지_않는다() {
+		allergyMatcher.update(memberId, Set.of("우유"), Set.of());
+
+		assertThat(allergyMatcher.match("양배추", false).isSkipLlm()).isFalse();
+	}
+
+	@Test
+	void 사전을_신뢰하면_질병_구성원이_없고_적중도_없을_때만_LLM_을_생략한다() {
+		ReflectionTestUtils.setField(allergyMatcher, "trustAllergenDictionary", true);
+		allergyMatcher.update(memberId, Set.of("우유"), Set.of());
+
+		assertThat(allergyMatcher.match("양배추", false).isSkipLlm()).isTrue();
+		assertThat(allergyMatcher.match("치즈", false).isSkipLlm()).isFalse();
+
+		allergyMatcher.update(otherMemberId, Set.of(), Set.of("당뇨"));
+
+		assertThat(allergyMatcher.match("양배추", false).isSkipLlm()).isFalse();
+	}
+
+	@Test
+	void 구성원_정보를_비우면_더_이상_적중하지_않는다() {
+		allergyMatcher.update(memberId, Set.of("우유"), Set.of());
+		allergyMatcher.update(memberId, Set.of(), Set.of());
+
+		AllergyMatcher.Result result = allergyMatcher.match("치즈", false);
+
+		assertThat(result.getAllergensByMember()).isEmpty();
+		assertThat(result.isSkipLlm()).isTrue();
+	}
+}
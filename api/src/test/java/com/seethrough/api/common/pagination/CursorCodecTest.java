@@ -0,0 +1,117 @@
+package com.seethrough.api.common.pagination;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.seethrough.api.common.exception.InvalidCursorException;
+
+class CursorCodecTest {
+
+	private static final Sort CREATED_AT_DESC = Sort.by(Sort.Direction.DESC, "createdAt");
+
+	@Test
+	void 인코딩한_커서를_원래_타입으로_복원한다() {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("createdAt", LocalDateTime.of(2025, 3, 1, 12, 30, 15));
+		keys.put("expirationAt", LocalDate.of(2025, 3, 10));
+		keys.put("name", "우유&치즈:1");
+		keys.put("age", 30);
+		keys.put("isRegistered", true);
+		keys.put("ingredientId", UUID.randomUUID());
+
+		Map<String, Object> decoded = CursorCodec.decode(CursorCodec.encode(keys, CREATED_AT_DESC), CREATED_AT_DESC);
+
+		assertThat(decoded).containsExactlyEntriesOf(keys);
+	}
+
+	@Test
+	void null_키_값을_복원한다() {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("expirationAt", null);
+		keys.put("ingredientId", UUID.randomUUID());
+
+		Map<String, Object> decoded = CursorCodec.decode(CursorCodec.encode(keys, CREATED_AT_DESC), CREATED_AT_DESC);
+
+		assertThat(decoded).containsExactlyEntriesOf(keys);
+		assertThat(decoded).containsKey("expirationAt");
+		assertThat(decoded.get("expirationAt")).isNull();
+	}
+
+	@Test
+	void 다른_정렬_기준으로_요청하면_예외가_발생한다() {
+		String cursor = CursorCodec.encode(Map.of("createdAt", LocalDateTime.of(2025, 3, 1, 0, 0)), CREATED_AT_DESC);
+
+		assertThatThrownBy(() -> CursorCodec.decode(cursor, Sort.by(Sort.Direction.ASC, "createdAt")))
+			.isInstanceOf(InvalidCursorException.class)
+			.hasMessage("커서를 만든 정렬 기준과 요청한 정렬 기준이 다릅니다.");
+		assertThatThrownBy(() -> CursorCodec.decode(cursor, Sort.by(Sort.Direction.DESC, "expirationAt")))
+			.isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void 잘못된_커서는_예외가_발생한다() {
+		assertThatThrownBy(() -> CursorCodec.decode("not a cursor!", CREATED_AT_DESC))
+			.isInstanceOf(InvalidCursorException.class)
+			.hasMessage("유효하지 않은 커서입니다.");
+		assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode(Map.of(), CREATED_AT_DESC), CREATED_AT_DESC))
+			.isInstanceOf(InvalidCursorException.class)
+			.hasMessage("유효하지 않은 커서입니다.");
+	}
+
+	@Test
+	void 커서로_인코딩할_수_없는_타입은_예외가_발생한다() {
+		assertThatThrownBy(() -> CursorCodec.encode(Map.of("price", 1.5), CREATED_AT_DESC))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void 요청의_정렬_기준으로_커서를_해석하고_size_를_상한으로_제한한다() {
+		Map<String, Object> keys = Map.of("createdAt", LocalDateTime.of(2025, 3, 1, 0, 0));
+
+		CursorRequestDto request = CursorRequestDto.builder()
+			.cursor(CursorCodec.encode(keys, CREATED_AT_DESC))
+			.size(1000)
+			.sortProperties(Set.of("createdAt"))
+			.build();
+
+		assertThat(request.toScrollPosition()).isInstanceOf(KeysetScrollPosition.class);
+		assertThat(((KeysetScrollPosition)request.toScrollPosition()).getKeys()).containsExactlyEntriesOf(keys);
+		assertThat(request.toLimit().max()).isEqualTo(CursorRequestDto.MAX_SIZE);
+
+		CursorRequestDto ascRequest = CursorRequestDto.builder()
+			.cursor(request.getCursor())
+			.sortDirection("ASC")
+			.sortProperties(Set.of("createdAt"))
+			.build();
+
+		assertThatThrownBy(ascRequest::toScrollPosition).isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void 허용하지_않은_정렬_기준이나_정렬_방향은_예외가_발생한다() {
+		CursorRequestDto nullableSort = CursorRequestDto.builder()
+			.sortBy("expirationAt")
+			.sortProperties(Set.of("inboundAt", "name"))
+			.build();
+		CursorRequestDto invalidDirection = CursorRequestDto.builder()
+			.sortBy("name")
+			.sortDirection("SIDEWAYS")
+			.sortProperties(Set.of("inboundAt", "name"))
+			.build();
+
+		assertThatThrownBy(nullableSort::toSort)
+			.isInstanceOf(InvalidCursorException.class)
+			.hasMessageContaining("expirationAt");
+		assertThatThrownBy(invalidDirection::toSort).isInstanceOf(InvalidCursorException.class);
+	}
+}
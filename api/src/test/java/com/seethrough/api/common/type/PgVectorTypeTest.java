@@ -0,0 +1,60 @@
+package com.seethrough.api.common.type;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGResultSetMetaData;
+
+class PgVectorTypeTest {
+
+	private final PgVectorType pgVectorType = new PgVectorType();
+
+	@Test
+	void 바이너리_포맷_컬럼은_send_recv_포맷으로_읽는다() throws SQLException {
+		float[] vector = {0.5f, -1.25f, 3f};
+
+		ByteBuffer buffer = ByteBuffer.allocate(4 + vector.length * Float.BYTES);
+		buffer.putShort((short)vector.length);
+		buffer.putShort((short)0);
+		for (float value : vector) {
+			buffer.putFloat(value);
+		}
+
+		ResultSet rs = resultSet(1);
+		when(rs.getBytes(1)).thenReturn(buffer.array());
+
+		assertThat(pgVectorType.nullSafeGet(rs, 1, null, null)).containsExactly(vector);
+	}
+
+	@Test
+	void 텍스트_포맷_컬럼은_텍스트로_읽는다() throws SQLException {
+		ResultSet rs = resultSet(0);
+		when(rs.getString(1)).thenReturn("[0.5,-1.25,3]");
+
+		assertThat(pgVectorType.nullSafeGet(rs, 1, null, null)).containsExactly(0.5f, -1.25f, 3f);
+	}
+
+	@Test
+	void NULL_컬럼은_null_을_반환한다() throws SQLException {
+		assertThat(pgVectorType.nullSafeGet(resultSet(1), 1, null, null)).isNull();
+		assertThat(pgVectorType.nullSafeGet(resultSet(0), 1, null, null)).isNull();
+	}
+
+	private static ResultSet resultSet(int format) throws SQLException {
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class, withSettings().extraInterfaces(PGResultSetMetaData.class));
+		when(metaData.isWrapperFor(PGResultSetMetaData.class)).thenReturn(true);
+		when(metaData.unwrap(PGResultSetMetaData.class)).thenReturn((PGResultSetMetaData)metaData);
+		when(((PGResultSetMetaData)metaData).getFormat(1)).thenReturn(format);
+
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getMetaData()).thenReturn(metaData);
+
+		return rs;
+	}
+}
@@ -0,0 +1,165 @@
+package com.seethrough.api.ingredient.infrastructure.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class IngredientVectorIndexTest {
+
+	private static final int DIMENSION = 64;
+
+	private final UUID milkId = UUID.randomUUID();
+	private final UUID cheeseId = UUID.randomUUID();
+	private final UUID cabbageId = UUID.randomUUID();
+
+	private IngredientVectorIndex ingredientVectorIndex;
+
+	@BeforeEach
+	void setUp() {
+		ingredientVectorIndex = new IngredientVectorIndex();
+	}
+
+	@Test
+	void 코사인_유사도가_높은_순서로_k_개를_반환한다() {
+		ingredientVectorIndex.putAll(Map.of(
+			milkId, new float[] {1, 0, 0},
+			cheeseId, new float[] {2, 1, 0},
+			cabbageId, new float[] {0, 0, 5}
+		));
+
+		List<IngredientVectorIndex.Neighbor> neighbors = ingredientVectorIndex.search(new float[] {3, 0, 0}, 2, null);
+
+		assertThat(neighbors).extracting(IngredientVectorIndex.Neighbor::getIngredientId).containsExactly(milkId, cheeseId);
+		assertThat(neighbors.get(0).getSimilarity()).isCloseTo(1f, within(1e-6f));
+		assertThat(neighbors.get(1).getSimilarity()).isCloseTo((float)(2 / Math.sqrt(5)), within(1e-6f));
+	}
+
+	@Test
+	void 제외할_ID_는_결과에서_빠진다() {
+		ingredientVectorIndex.putAll(Map.of(
+			milkId, new float[] {1, 0, 0},
+			cheeseId, new float[] {2, 1, 0},
+			cabbageId, new float[] {0, 0, 5}
+		));
+
+		assertThat(ingredientVectorIndex.search(new float[] {1, 0, 0}, 10, milkId))
+			.extracting(IngredientVectorIndex.Neighbor::getIngredientId)
+			.containsExactly(cheeseId, cabbageId);
+	}
+
+	@Test
+	void k_가_0_이하이거나_차원이_다르거나_비어있으면_빈_결과를_반환한다() {
+		assertThat(ingredientVectorIndex.search(new float[] {1, 0, 0}, 3, null)).isEmpty();
+
+		ingredientVectorIndex.putAll(Map.of(milkId, new float[] {1, 0, 0}));
+
+		assertThat(ingredientVectorIndex.search(new float[] {1, 0, 0}, 0, null)).isEmpty();
+		assertThat(ingredientVectorIndex.search(new float[] {1, 0, 0}, -1, null)).isEmpty();
+		assertThat(ingredientVectorIndex.search(new float[] {1, 0}, 3, null)).isEmpty();
+	}
+
+	@Test
+	void 삭제한_식재료는_검색되지_않는다() {
+		ingredientVectorIndex.putAll(Map.of(
+			milkId, new float[] {1, 0, 0},
+			cheeseId, new float[] {2, 1, 0}
+		));
+		ingredientVectorIndex.removeAll(List.of(milkId));
+
+		assertThat(ingredientVectorIndex.size()).isEqualTo(1);
+		assertThat(ingredientVectorIndex.get(milkId)).isNull();
+		assertThat(ingredientVectorIndex.search(new float[] {1, 0, 0}, 3, null))
+			.extracting(IngredientVectorIndex.Neighbor::getIngredientId)
+			.containsExactly(cheeseId);
+	}
+
+	@Test
+	void 차원이_다른_임베딩은_인덱스에서_제외한다() {
+		Map<UUID, float[]> embeddings = new LinkedHashMap<>();
+		embeddings.put(milkId, new float[] {1, 0, 0});
+		embeddings.put(cheeseId, new float[] {1, 0});
+		embeddings.put(cabbageId, new float[0]);
+
+		ingredientVectorIndex.putAll(embeddings);
+
+		assertThat(ingredientVectorIndex.size()).isEqualTo(1);
+		assertThat(ingredientVectorIndex.get(milkId)).containsExactly(1, 0, 0);
+	}
+
+	@Test
+	void 전수_비교_결과와_같은_순서를_반환한다() {
+		Map<UUID, float[]> embeddings = randomEmbeddings(500, new Random(42));
+		float[] query = randomVector(new Random(7));
+
+		ingredientVectorIndex.putAll(embeddings);
+
+		assertThat(ingredientVectorIndex.search(query, 10, null))
+			.extracting(IngredientVectorIndex.Neighbor::getIngredientId)
+			.containsExactlyElementsOf(bruteForce(embeddings, query, 10));
+	}
+
+	@Test
+	void 양자화해도_유사도_오차가_작다() {
+		ReflectionTestUtils.setField(ingredientVectorIndex, "quantization", true);
+
+		Map<UUID, float[]> embeddings = randomEmbeddings(500, new Random(42));
+		float[] query = randomVector(new Random(7));
+
+		ingredientVectorIndex.putAll(embeddings);
+
+		List<IngredientVectorIndex.Neighbor> neighbors = ingredientVectorIndex.search(query, 10, null);
+		List<UUID> expected = bruteForce(embeddings, query, 10);
+
+		assertThat(neighbors).hasSize(10);
+		assertThat(expected.subList(0, 3)).contains(neighbors.get(0).getIngredientId());
+		neighbors.forEach(neighbor -> assertThat(neighbor.getSimilarity())
+			.isCloseTo(cosine(query, embeddings.get(neighbor.getIngredientId())), within(0.02f)));
+	}
+
+	private static List<UUID> bruteForce(Map<UUID, float[]> embeddings, float[] query, int k) {
+		return embeddings.keySet().stream()
+			.sorted(Comparator.comparingDouble((UUID id) -> cosine(query, embeddings.get(id))).reversed())
+			.limit(k)
+			.toList();
+	}
+
+	private static float cosine(float[] a, float[] b) {
+		double dot = 0;
+		double normA = 0;
+		double normB = 0;
+		for (int i = 0; i < a.length; i++) {
+			dot += a[i] * b[i];
+			normA += a[i] * a[i];
+			normB += b[i] * b[i];
+		}
+
+		return (float)(dot / Math.sqrt(normA * normB));
+	}
+
+	private static Map<UUID, float[]> randomEmbeddings(int size, Random random) {
+		Map<UUID, float[]> embeddings = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++) {
+			embeddings.put(new UUID(random.nextLong(), random.nextLong()), randomVector(random));
+		}
+
+		return embeddings;
+	}
+
+	private static float[] randomVector(Random random) {
+		float[] vector = new float[DIMENSION];
+		for (int i = 0; i < DIMENSION; i++) {
+			vector[i] = (float)random.nextGaussian();
+		}
+
+		return vector;
+	}
+}
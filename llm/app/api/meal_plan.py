@@ -1,7 +1,12 @@
 from fastapi import APIRouter, Depends, HTTPException
+from fastapi.responses import StreamingResponse
 from sqlalchemy.orm import Session
 from app.db.database import get_db
-from app.services.meal_plan_service import create_meal_plan_service
+from app.services.meal_plan_service import (
+    create_meal_plan_service,
+    load_meal_plan_context,
+    stream_meal_plan_service
+)
 from app.schemas.meal_plan import SimpleMealPlanRequest, SimpleMealPlanResponse
 
 router = APIRouter()
@@ -16,3 +21,20 @@ async def create_meal_plan(request: SimpleMealPlanRequest, db: Session = Depends
         return await create_meal_plan_service(request, db)
     except ValueError as e:
         raise HTTPException(status_code=404, detail=str(e))
+
+
+@router.post("/meal-plan/stream")
+async def stream_meal_plan(request: SimpleMealPlanRequest, db: Session = Depends(get_db)):
+    """
+    /meal-plan 과 같은 요청으로, 식사가 하나 생성될 때마다 SimpleMealScheduleResponse 를 NDJSON 한 줄로 보내는 API
+    """
+    try:
+        # 응답 헤더를 보내기 전에 사용자 정보를 읽어 404 를 돌려줄 수 있게 한다.
+        context = load_meal_plan_context(request, db)
+    except ValueError as e:
+        raise HTTPException(status_code=404, detail=str(e))
+
+    return StreamingResponse(
+        stream_meal_plan_service(request, context),
+        media_type="application/x-ndjson"
+    )
@@ -14,7 +14,9 @@ def risky_check(member_id: str = Query(..., description="사용자 ID"), db: Ses
     risky_ingredients = get_risky_ingredients(member_id, db)
 
     # 위험한 음식이 없을 경우, 200 응답을 반환
+    # analyzed 가 False 이면 분석 실패이므로 risky_ingredients 가 비어 있어도 "위험 없음" 으로 보면 안 됨
     return {
         "member_id": member_id,
         "risky_ingredients": risky_ingredients if risky_ingredients else [],
+        "analyzed": risky_ingredients is not None,
     }
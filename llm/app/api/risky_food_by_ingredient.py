@@ -17,6 +17,7 @@ def get_risky_food_by_ingredient(ingredient: str = Query(..., description="확
         return {
             "ingredient": ingredient,
             "risky_members": [],
+            "analyzed": False,
         }
     
     return result
@@ -7,6 +7,7 @@ from sqlalchemy.orm import Session
 from app.db.models import DiseaseVector
 from app.core.embedding import get_embeddings
 import logging
+from typing import Optional
 
 logger = logging.getLogger(__name__)
 
@@ -138,7 +139,10 @@ def analyze_risky_foods_with_comments(
     diseases: list,
     age: int,  # 나이 추가
     db: Session,
-) -> list:
+) -> Optional[list]:
+    """
+    위험한 음식 목록을 반환합니다. 응답 파싱에 실패하면 빈 리스트(위험 없음)와 구분할 수 있도록 None 을 반환합니다.
+    """
     food_list_str = "\n".join([f"- {food}" for food in food_names])
     allergy_list_str = "\n".join([f"- {allergy}" for allergy in allergies])
     disease_list_str = "\n".join([f"- {disease}" for disease in diseases])
@@ -177,4 +181,4 @@ def analyze_risky_foods_with_comments(
 
     except Exception as e:
         print(f"LLM JSON 파싱 오류: {e}")
-        return []
+        return None
@@ -10,6 +10,7 @@ import numpy as np
 from numpy.linalg import norm
 import json
 import logging
+from typing import Optional
 
 logger = logging.getLogger(__name__)
 
@@ -112,7 +113,10 @@ def retrieve_medical_info(
 
 def analyze_risky_food_for_members(
     ingredient: str, health_data: str, db: Session
-) -> list:
+) -> Optional[list]:
+    """
+    위험한 사용자 목록을 반환합니다. 분석에 실패하면 빈 리스트(위험 없음)와 구분할 수 있도록 None 을 반환합니다.
+    """
     try:
         logger.info("🔍 분석 시작 - ingredient: %s", ingredient)
 
@@ -189,7 +193,7 @@ def analyze_risky_food_for_members(
             logger.warning(
                 "⚠️ 'risky_members'가 리스트가 아님: %s", parsed.risky_members
             )
-            return []
+            return None
 
         logger.info("✅ 분석 완료 - 위험 사용자 수: %d", len(parsed.risky_members))
         return parsed.risky_members
@@ -198,4 +202,4 @@ def analyze_risky_food_for_members(
         logger.error("❌ analyze_risky_food_for_members 오류: %s", e)
         if "response" in locals():
             logger.debug("📥 오류 발생 시 LLM 응답:\n%s", response.content)
-        return []
+        return None
@@ -12,3 +12,4 @@ class IngredientSchema(BaseModel):
 class RiskyCheckResponse(BaseModel):
     member_id: str
     risky_ingredients: List[dict]  # 위험 재료 정보와 맞춤 코멘트 포함
+    analyzed: bool = True
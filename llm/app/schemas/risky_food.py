@@ -8,3 +8,4 @@ class RiskyMemberResponse(BaseModel):
 class RiskyFoodResponse(BaseModel):
     ingredient: str
     risky_members: List[RiskyMemberResponse]
+    analyzed: bool = True
@@ -2,37 +2,41 @@ from sqlalchemy.orm import Session
 from app.db.models import Member, Ingredient
 from app.core.langchain_meal import generate_single_meal
 import asyncio
+import logging
+from typing import AsyncIterator
 from app.schemas.meal_plan import (
     SimpleMealPlanRequest,
     SimpleMealPlanResponse,
     SimpleMealScheduleResponse
 )
 
-async def create_meal_plan_service(request: SimpleMealPlanRequest, db: Session) -> SimpleMealPlanResponse:
+logger = logging.getLogger(__name__)
+
+
+def load_meal_plan_context(request: SimpleMealPlanRequest, db: Session) -> dict:
     member = db.query(Member).filter(Member.member_id == request.member_id).first()
     if not member:
         raise ValueError("해당 member_id를 가진 사용자를 찾을 수 없습니다.")
 
-    preferred_foods = member.preferred_foods or []
-    disliked_foods = member.disliked_foods or []
-    allergies = member.allergies or []
-    diseases = member.diseases or []
-    birthday = member.birth
     available_ingredients = db.query(Ingredient.name).distinct().all()
-    available_ingredients = {ing.name for ing in available_ingredients}
+
+    return dict(
+        description="사용자의 일정에 맞는 식단 구성",
+        preferred_foods=member.preferred_foods or [],
+        disliked_foods=member.disliked_foods or [],
+        allergies=member.allergies or [],
+        diseases=member.diseases or [],
+        birthday=member.birth,
+        available_ingredients={ing.name for ing in available_ingredients},
+    )
+
+
+async def create_meal_plan_service(request: SimpleMealPlanRequest, db: Session) -> SimpleMealPlanResponse:
+    context = load_meal_plan_context(request, db)
 
     # 비동기 요청 리스트
     tasks = [
-        generate_single_meal(
-            description="사용자의 일정에 맞는 식단 구성",
-            schedule=schedule,
-            preferred_foods=preferred_foods,
-            disliked_foods=disliked_foods,
-            allergies=allergies,
-            diseases=diseases,
-            birthday=birthday,
-            available_ingredients=available_ingredients
-        )
+        generate_single_meal(schedule=schedule, **context)
         for schedule in request.schedules
     ]
 
@@ -55,4 +59,35 @@ async def create_meal_plan_service(request: SimpleMealPlanRequest, db: Session)
         member_id=request.member_id,
         schedules=response_schedules,
         required_ingredients=list(all_required_ingredients)
-    )
\ No newline at end of file
+    )
+
+
+async def stream_meal_plan_service(request: SimpleMealPlanRequest, context: dict) -> AsyncIterator[str]:
+    """
+    식사를 동시에 생성하고, 완성되는 순서대로 한 줄에 하나씩 JSON(NDJSON)으로 내보낸다.
+    생성에 실패한 식사(빈 메뉴)는 보내지 않으며, 호출한 쪽이 빠진 meal_id 를 다시 요청한다.
+    """
+
+    async def generate(schedule):
+        meal, _ = await generate_single_meal(schedule=schedule, **context)
+        return schedule.meal_id, meal
+
+    tasks = [asyncio.create_task(generate(schedule)) for schedule in request.schedules]
+
+    try:
+        for task in asyncio.as_completed(tasks):
+            meal_id, meal = await task
+
+            if not meal.menu:
+                logger.warning(f"[식단 스트리밍] 생성 실패로 건너뜀: meal_id={meal_id}")
+                continue
+
+            yield SimpleMealScheduleResponse(
+                meal_id=meal_id,
+                menu=meal.menu,
+                reason=meal.reason
+            ).model_dump_json() + "\n"
+    finally:
+        # 클라이언트 연결이 끊기면 남은 요청은 취소
+        for task in tasks:
+            task.cancel()
@@ -26,6 +26,9 @@ def get_risky_ingredients(member_id: str, db: Session):
         db=db,
     )
 
+    if risky_foods is None:
+        return None
+
     risky_ingredients = []
     for ingredient in ingredients:
         for food in risky_foods:
@@ -27,7 +27,9 @@ def check_risky_food_by_ingredient(ingredient: str, db: Session):
 
     risky_members = analyze_risky_food_for_members(ingredient, health_data_json, db)
 
+    # analyzed 가 False 이면 분석 실패이므로 risky_members 가 비어 있어도 "위험 없음" 으로 보면 안 됨
     return {
         "ingredient": ingredient,
         "risky_members": risky_members if risky_members else [],
+        "analyzed": risky_members is not None,
     }